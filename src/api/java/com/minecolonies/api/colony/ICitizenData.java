@@ -49,6 +49,20 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void markDirty();
 
+    /**
+     * Marks parts of the instance dirty, only those are sent to clients which have a view of the citizen already.
+     *
+     * @param fields the changed data, a combination of the DIRTY_ constants of {@link com.minecolonies.api.util.constant.CitizenConstants}.
+     */
+    void markDirty(int fields);
+
+    /**
+     * Get the parts of the instance changed since the last update of the clients.
+     *
+     * @return the DIRTY_ bits, 0 if not dirty.
+     */
+    int getDirtyFields();
+
     /**
      * Returns the colony of the citizen.
      *
@@ -162,6 +176,14 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void serializeViewNetworkData(@NotNull ByteBuf buf);
 
+    /**
+     * Writes parts of the citizen data to a byte buf for transition, to update an existing view.
+     *
+     * @param buf    Buffer to write to.
+     * @param fields the DIRTY_ bits of the data to write.
+     */
+    void serializeViewNetworkData(@NotNull ByteBuf buf, int fields);
+
     /**
      * Sets the levels of the citizen.
      *
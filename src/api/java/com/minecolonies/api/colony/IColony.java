@@ -362,4 +362,11 @@ public interface IColony
      * @return amount of chunks
      */
     int getLoadedChunkCount();
+
+    /**
+     * Returns the loaded chunks owned by the colony.
+     *
+     * @return an unmodifiable view of their positions, see {@link net.minecraft.util.math.ChunkPos#asLong(int, int)}.
+     */
+    Set<Long> getLoadedChunks();
 }
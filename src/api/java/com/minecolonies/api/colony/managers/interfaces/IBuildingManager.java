@@ -150,6 +150,13 @@ public interface IBuildingManager
      */
     void markBuildingsDirty();
 
+    /**
+     * Get the dirty generation, which increases on every change that has to be saved.
+     *
+     * @return the generation.
+     */
+    int getSaveGeneration();
+
     /**
      * Creates a building from a tile entity and adds it to the colony.
      *
@@ -122,6 +122,13 @@ public interface ICitizenManager
      */
     void markCitizensDirty();
 
+    /**
+     * Get the dirty generation, which increases on every change that has to be saved.
+     *
+     * @return the generation.
+     */
+    int getSaveGeneration();
+
     /**
      * Clear dirty from all buildings.
      */
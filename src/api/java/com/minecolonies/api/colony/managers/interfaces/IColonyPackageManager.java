@@ -1,9 +1,14 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Colony package manager, responsible to update views etc.
@@ -60,6 +65,16 @@ public interface IColonyPackageManager
      */
     void sendSchematicsPackets();
 
+    /**
+     * Serialize a view once and send the same data to all given players.
+     * The buffer handed to the message factory is shared by all receivers and released after sending, messages must not modify it.
+     *
+     * @param serializer     writes the view into the buffer.
+     * @param messageFactory creates the message wrapping the serialized view.
+     * @param players        the players to send it to.
+     */
+    void broadcastView(@NotNull Consumer<ByteBuf> serializer, @NotNull Function<ByteBuf, IMessage> messageFactory, @NotNull Collection<EntityPlayerMP> players);
+
     /**
      * Mark the package manager dirty.
      */
@@ -211,10 +211,45 @@ public interface IRequestManager extends INBTSerializable<NBTTagCompound>, ITick
      */
     void setDirty(boolean isDirty);
 
+    /**
+     * Get the dirty generation, which increases every time the manager is marked dirty.
+     * @return the generation.
+     */
+    int getSaveGeneration();
+
     /**
      * Marks this manager dirty.
      */
     void markDirty();
 
+    /**
+     * Checks if the changes since the last network update can be sent to the clients as a delta.
+     * @return true if so, false when a full snapshot is required.
+     */
+    boolean canSendDelta();
+
+    /**
+     * Serializes the requests that changed since the last network update and clears the change journal.
+     * @return the delta as NBT.
+     */
+    NBTTagCompound serializeDeltaNBT();
+
+    /**
+     * Applies a delta created by {@link #serializeDeltaNBT()} to this manager.
+     * @param nbt the delta to apply.
+     */
+    void deserializeDeltaNBT(NBTTagCompound nbt);
+
+    /**
+     * Clears the change journal, used when a full snapshot was sent or nobody is listening.
+     */
+    void clearDelta();
+
+    /**
+     * Records that data of a request changed outside of this manager, for example its deliveries, so the request is part of the next delta.
+     * @param token the token of the changed request.
+     */
+    void onRequestChanged(@NotNull IToken<?> token);
+
     Logger getLogger();
 }
@@ -136,5 +136,12 @@ public interface IWorkManager
      */
     void setDirty(boolean dirty);
 
+    /**
+     * Get the dirty generation, which increases on every change that has to be saved.
+     *
+     * @return the generation.
+     */
+    int getSaveGeneration();
+
     IColony getColony();
 }
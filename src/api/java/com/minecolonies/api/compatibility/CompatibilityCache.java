@@ -0,0 +1,173 @@
+package com.minecolonies.api.compatibility;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import net.minecraft.item.Item;
+import net.minecraft.item.crafting.FurnaceRecipes;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+import net.minecraftforge.oredict.OreDictionary;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_DISCOVERY_HASH;
+
+/**
+ * Stores the results of the discovery of the {@link CompatibilityManager} in the game directory, so later starts with the same mods and
+ * config can load them instead of running through all items again.
+ */
+public final class CompatibilityCache
+{
+    /**
+     * Version of the cache layout, increase when the stored data changes.
+     */
+    private static final int CACHE_VERSION = 1;
+
+    /**
+     * Folder in the game directory the cache is stored in.
+     */
+    private static final String CACHE_FOLDER = "minecolonies";
+
+    /**
+     * Name of the cache file.
+     */
+    private static final String CACHE_FILE = "compatibility-cache.dat";
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private CompatibilityCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Calculate the hash of everything the discovery depends on: the mods and their versions, the registered items, the ore dictionary,
+     * the amount of furnace recipes and the config lists used by the discovery.
+     *
+     * @return the hash.
+     */
+    @NotNull
+    public static String computeHash()
+    {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(CACHE_VERSION);
+
+        for (final ModContainer mod : Loader.instance().getActiveModList())
+        {
+            hasher.putString(mod.getModId(), StandardCharsets.UTF_8).putString(String.valueOf(mod.getVersion()), StandardCharsets.UTF_8);
+        }
+
+        final List<String> items = new ArrayList<>();
+        for (final ResourceLocation key : Item.REGISTRY.getKeys())
+        {
+            items.add(key.toString());
+        }
+        items.sort(null);
+        items.forEach(item -> hasher.putString(item, StandardCharsets.UTF_8));
+
+        final String[] oreNames = OreDictionary.getOreNames();
+        Arrays.sort(oreNames);
+        for (final String oreName : oreNames)
+        {
+            hasher.putString(oreName, StandardCharsets.UTF_8).putInt(OreDictionary.getOres(oreName, false).size());
+        }
+        hasher.putInt(FurnaceRecipes.instance().getSmeltingList().size());
+
+        putAll(hasher, Configurations.gameplay.listOfCompostableItems);
+        putAll(hasher, Configurations.gameplay.listOfPlantables);
+        putAll(hasher, Configurations.gameplay.extraOres);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Add all strings of a config list to a hash.
+     *
+     * @param hasher the hasher.
+     * @param values the config list.
+     */
+    private static void putAll(@NotNull final Hasher hasher, @NotNull final String[] values)
+    {
+        hasher.putInt(values.length);
+        for (final String value : values)
+        {
+            hasher.putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Load the cached discovery.
+     *
+     * @param hash the hash of the current game, see {@link #computeHash()}.
+     * @return the cached data or null if there is none for this hash.
+     */
+    @Nullable
+    public static NBTTagCompound load(@NotNull final String hash)
+    {
+        final File file = getFile();
+        if (!file.exists())
+        {
+            return null;
+        }
+
+        try
+        {
+            final NBTTagCompound compound = CompressedStreamTools.read(file);
+            if (compound != null && hash.equals(compound.getString(TAG_DISCOVERY_HASH)))
+            {
+                return compound;
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not read the compatibility cache, discovering again", e);
+        }
+        return null;
+    }
+
+    /**
+     * Store the discovery.
+     *
+     * @param hash     the hash of the current game, see {@link #computeHash()}.
+     * @param compound the data to store.
+     */
+    public static void save(@NotNull final String hash, @NotNull final NBTTagCompound compound)
+    {
+        final File file = getFile();
+        compound.setString(TAG_DISCOVERY_HASH, hash);
+        try
+        {
+            file.getParentFile().mkdirs();
+            CompressedStreamTools.safeWrite(compound, file);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not write the compatibility cache", e);
+        }
+    }
+
+    /**
+     * Get the cache file.
+     *
+     * @return the file in the game directory.
+     */
+    @NotNull
+    private static File getFile()
+    {
+        return new File(new File(Loader.instance().getConfigDir().getParentFile(), CACHE_FOLDER), CACHE_FILE);
+    }
+}
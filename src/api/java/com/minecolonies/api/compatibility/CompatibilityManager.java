@@ -26,6 +26,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.FurnaceRecipes;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.NonNullList;
@@ -35,12 +36,13 @@ import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static com.minecolonies.api.util.ItemStackUtils.*;
 import static com.minecolonies.api.util.constant.Constants.*;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SAP_LEAF;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * CompatibilityManager handling certain list and maps of itemStacks of certain types.
@@ -183,23 +185,142 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public void discover()
     {
-        discoverBlockList();
+        final String hash = Configurations.gameplay.cacheCompatibilityDiscovery ? CompatibilityCache.computeHash() : null;
+        final NBTTagCompound cached = hash == null ? null : CompatibilityCache.load(hash);
+        if (cached != null && readDiscoveryFromNBT(cached))
+        {
+            Log.getLogger().info("Loaded discovered items from the compatibility cache");
+        }
+        else
+        {
+            discoverBlockList();
+            discoverOres();
+            Log.getLogger().info("Finished discovering oreBlocks");
+            discoverCompostableItems();
+            discoverPlantables();
+            discoverFood();
+            discoverFuel();
+
+            if (hash != null)
+            {
+                CompatibilityCache.save(hash, writeDiscoveryToNBT());
+            }
+        }
 
         discoverSaplings();
-        discoverOres();
-        Log.getLogger().info("Finished discovering oreBlocks");
-        discoverCompostableItems();
-        discoverPlantables();
         discoverLuckyOres();
         discoverCrusherModes();
         discoverSifting();
-        discoverFood();
-        discoverFuel();
         discoverEnchantments();
 
         discoveredAlready = true;
     }
 
+    /**
+     * Write the results of the discovery which depend on all items, to be cached.
+     *
+     * @return the compound.
+     */
+    private NBTTagCompound writeDiscoveryToNBT()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_ALL_BLOCKS, writeStacksToNBT(allBlocks));
+        compound.setTag(TAG_SMELTABLE_ORES, writeStacksToNBT(smeltableOres.stream().map(ItemStorage::getItemStack).collect(Collectors.toList())));
+        compound.setTag(TAG_COMPOSTABLES, writeStacksToNBT(compostableItems.stream().map(ItemStorage::getItemStack).collect(Collectors.toList())));
+        compound.setTag(TAG_PLANTABLES, writeStacksToNBT(plantables.stream().map(ItemStorage::getItemStack).collect(Collectors.toList())));
+        compound.setTag(TAG_DISCOVERED_FOOD, writeStacksToNBT(food.stream().map(ItemStorage::getItemStack).collect(Collectors.toList())));
+        compound.setTag(TAG_DISCOVERED_FUEL, writeStacksToNBT(fuel.stream().map(ItemStorage::getItemStack).collect(Collectors.toList())));
+
+        final NBTTagList oreList = new NBTTagList();
+        for (final Block block : oreBlocks)
+        {
+            oreList.appendTag(new NBTTagString(String.valueOf(block.getRegistryName())));
+        }
+        compound.setTag(TAG_ORE_BLOCKS, oreList);
+        return compound;
+    }
+
+    /**
+     * Read cached results of the discovery, nothing is changed if one of the entries can't be read anymore.
+     *
+     * @param compound the compound.
+     * @return true if the cache could be used.
+     */
+    private boolean readDiscoveryFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        final List<ItemStack> blocks = readStacksFromNBT(compound.getTagList(TAG_ALL_BLOCKS, Constants.NBT.TAG_COMPOUND));
+        final List<ItemStack> ores = readStacksFromNBT(compound.getTagList(TAG_SMELTABLE_ORES, Constants.NBT.TAG_COMPOUND));
+        final List<ItemStack> compostables = readStacksFromNBT(compound.getTagList(TAG_COMPOSTABLES, Constants.NBT.TAG_COMPOUND));
+        final List<ItemStack> plants = readStacksFromNBT(compound.getTagList(TAG_PLANTABLES, Constants.NBT.TAG_COMPOUND));
+        final List<ItemStack> foods = readStacksFromNBT(compound.getTagList(TAG_DISCOVERED_FOOD, Constants.NBT.TAG_COMPOUND));
+        final List<ItemStack> fuels = readStacksFromNBT(compound.getTagList(TAG_DISCOVERED_FUEL, Constants.NBT.TAG_COMPOUND));
+        if (blocks == null || blocks.isEmpty() || ores == null || compostables == null || plants == null || foods == null || fuels == null)
+        {
+            return false;
+        }
+
+        final List<Block> blockList = new ArrayList<>();
+        final NBTTagList oreList = compound.getTagList(TAG_ORE_BLOCKS, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < oreList.tagCount(); i++)
+        {
+            final Block block = Block.getBlockFromName(oreList.getStringTagAt(i));
+            if (block == null)
+            {
+                return false;
+            }
+            blockList.add(block);
+        }
+
+        allBlocks = ImmutableList.copyOf(blocks);
+        ores.forEach(stack -> smeltableOres.add(new ItemStorage(stack)));
+        compostables.forEach(stack -> compostableItems.add(new ItemStorage(stack)));
+        plants.forEach(stack -> plantables.add(new ItemStorage(stack)));
+        foods.forEach(stack -> food.add(new ItemStorage(stack)));
+        fuels.forEach(stack -> fuel.add(new ItemStorage(stack)));
+        oreBlocks.addAll(blockList);
+        return true;
+    }
+
+    /**
+     * Write a list of stacks to NBT, empty stacks are left out.
+     *
+     * @param stacks the stacks.
+     * @return the list tag.
+     */
+    private static NBTTagList writeStacksToNBT(@NotNull final Collection<ItemStack> stacks)
+    {
+        final NBTTagList list = new NBTTagList();
+        for (final ItemStack stack : stacks)
+        {
+            if (!isEmpty(stack))
+            {
+                list.appendTag(stack.writeToNBT(new NBTTagCompound()));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Read a list of stacks from NBT.
+     *
+     * @param list the list tag.
+     * @return the stacks or null if one of them doesn't exist anymore.
+     */
+    private static List<ItemStack> readStacksFromNBT(@NotNull final NBTTagList list)
+    {
+        final List<ItemStack> stacks = new ArrayList<>(list.tagCount());
+        for (int i = 0; i < list.tagCount(); i++)
+        {
+            final ItemStack stack = new ItemStack(list.getCompoundTagAt(i));
+            if (isEmpty(stack))
+            {
+                return null;
+            }
+            stacks.add(stack);
+        }
+        return stacks;
+    }
+
     /**
      * Create complete list of blocks, client side only.
      */
@@ -484,12 +605,12 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (smeltableOres.isEmpty())
         {
-            smeltableOres.addAll(ImmutableList.copyOf(allBlocks.stream().filter(this::isOre).map(ItemStorage::new).collect(Collectors.toList())));
+            smeltableOres.addAll(ImmutableList.copyOf(allBlocks.parallelStream().filter(this::isOre).map(ItemStorage::new).collect(Collectors.toList())));
         }
 
         if (oreBlocks.isEmpty())
         {
-            oreBlocks.addAll(ImmutableList.copyOf(allBlocks.stream().filter(this::isMineableOre)
+            oreBlocks.addAll(ImmutableList.copyOf(allBlocks.parallelStream().filter(this::isMineableOre)
                                                     .filter(stack -> !isEmpty(stack) && stack.getItem() instanceof ItemBlock)
                                                     .map(stack -> ((ItemBlock) stack.getItem()).getBlock())
                                                     .collect(Collectors.toList())));
@@ -541,7 +662,10 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (compostableItems.isEmpty())
         {
-            compostableItems.addAll(ImmutableList.copyOf(allBlocks.stream().filter(this::isCompost).map(ItemStorage::new).collect(Collectors.toList())));
+            compostableItems.addAll(ImmutableList.copyOf(allBlocks.parallelStream()
+                                                           .filter(matchesAnyOf(Configurations.gameplay.listOfCompostableItems))
+                                                           .map(ItemStorage::new)
+                                                           .collect(Collectors.toList())));
         }
         Log.getLogger().info("Finished discovering compostables");
     }
@@ -553,13 +677,48 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (plantables.isEmpty())
         {
-            plantables.addAll(ImmutableList.copyOf(allBlocks.stream().filter(this::isPlantable).map(ItemStorage::new).collect(Collectors.toList())));
+            plantables.addAll(ImmutableList.copyOf(allBlocks.parallelStream()
+                                                     .filter(matchesAnyOf(Configurations.gameplay.listOfPlantables))
+                                                     .map(ItemStorage::new)
+                                                     .collect(Collectors.toList())));
         }
         Log.getLogger().info("Finished discovering compostables");
     }
 
     /**
-     * Create complete list of fuel items.
+     * Create a filter matching stacks by the registry name of their item or one of their ore dictionary names, like {@link #isCompost(ItemStack)}.
+     * The names are looked up in a set instead of comparing each of them, and the filter may be used from several threads.
+     *
+     * @param names the configured names.
+     * @return the filter.
+     */
+    private static Predicate<ItemStack> matchesAnyOf(@NotNull final String[] names)
+    {
+        final Set<String> nameSet = new HashSet<>(Arrays.asList(names));
+        return stack ->
+        {
+            if (stack.isEmpty())
+            {
+                return false;
+            }
+
+            if (nameSet.contains(stack.getItem().getRegistryName().toString()))
+            {
+                return true;
+            }
+            for (final int id : OreDictionary.getOreIDs(stack))
+            {
+                if (nameSet.contains(OreDictionary.getOreName(id)))
+                {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Create complete list of fuel items, on the calling thread since other mods decide about the burn time through events.
      */
     private void discoverFuel()
     {
@@ -577,7 +736,7 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         if (food.isEmpty())
         {
-            food.addAll(ImmutableList.copyOf(allBlocks.stream().filter(ISFOOD.or(ISCOOKABLE)).map(ItemStorage::new).collect(Collectors.toList())));
+            food.addAll(ImmutableList.copyOf(allBlocks.parallelStream().filter(ISFOOD.or(ISCOOKABLE)).map(ItemStorage::new).collect(Collectors.toList())));
         }
         Log.getLogger().info("Finished discovering food");
     }
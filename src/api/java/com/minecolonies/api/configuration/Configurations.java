@@ -192,6 +192,12 @@ public class Configurations
         @Config.Comment("Should the player be allowed to use the '/mc backup' command? [Default: false]")
         public boolean canPlayerUseBackupCommand = false;
 
+        @Config.Comment("Amount of colony backups to keep, older backups get deleted. 0 keeps all backups. [Default: 0]")
+        public int backupRetentionCount = 0;
+
+        @Config.Comment("Should a backup only contain the colony files which changed since the previous backup of this server session? The manifest inside the backup lists which backup holds the other files. [Default: false]")
+        public boolean incrementalBackups = false;
+
         /* Colony TP configs */
         @Config.Comment("Amount of attempts to find a save rtp. [Default: 4]")
         public int numberOfAttemptsForSafeTP = 4;
@@ -232,9 +238,22 @@ public class Configurations
         @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder). [Default: 1000]")
         public int maxBlocksCheckedByBuilder = 1000;
 
+        @Config.Comment("Amount of blocks of loaded and rotated schematics kept in memory to be shared by builders, 0 to disable. [Default: 4000000]")
+        @Config.RangeInt(min = 0)
+        public int structureCacheMaxBlocks = 4000000;
+
+        @Config.Comment("Should builders plan the blocks which need work ahead and jump between them instead of checking every block? [Default: true]")
+        public boolean builderBuildPlan = true;
+
+        @Config.Comment("Should farmers keep track of the cells of their fields which need work and go straight to them instead of checking every cell? [Default: true]")
+        public boolean farmerCellIndex = true;
+
         @Config.Comment("Chat frequency of worker requests. [Default: 30]")
         public int chatFrequency = 30;
 
+        @Config.Comment("Should the items found by the compatibility discovery be cached in the game directory, to start faster with the same mods and config? [Default: true]")
+        public boolean cacheCompatibilityDiscovery = true;
+
         @Config.Comment("Should in development features be enabled (might be buggy). [Default: false]")
         public boolean enableInDevelopmentFeatures = false;
 
@@ -305,6 +324,17 @@ public class Configurations
         @Config.RangeInt(min = 1,max = 10000)
         public int updateRate = 1;
 
+        @Config.Comment("Should citizens far away from players update their AI less often, and even less often when the server is overloaded. [Default: true]")
+        public boolean adaptiveAITickRate = true;
+
+        @Config.Comment("Distance in blocks to the closest player within which citizens always update their AI at the full rate. [Default: 48]")
+        @Config.RangeInt(min = 8, max = 512)
+        public int aiFullRateDistance = 48;
+
+        @Config.Comment("Milliseconds per server tick above which the AI of distant citizens is updated less often. [Default: 40]")
+        @Config.RangeInt(min = 10, max = 1000)
+        public int aiTargetMspt = 40;
+
         @Config.Comment("Quantity of dirt per Compost filling. [Default: 1]")
         public int dirtFromCompost = 1;
 
@@ -623,6 +653,12 @@ public class Configurations
 
         @Config.Comment("Should Operators be silent when entering or leaving a colony. [Default: false]")
         public boolean operatorVisitsColoniesSilently = false;
+
+        @Config.Comment("Microseconds per server tick all colonies together may spend on building, citizen and request system updates. Work above it is spread over the next ticks. [Default: 5000]")
+        public int colonyTickBudgetMicros = 5000;
+
+        @Config.Comment("Should the time spent on colonies, citizen AI, pathfinding and the request system be measured from the start, see /mc colony profile. [Default: false]")
+        public boolean enableTickProfiler = false;
     }
 
     public static class Compatibility
@@ -644,6 +680,15 @@ public class Configurations
 
         @Config.Comment("Max amount of Nodes(positions) to map during pathfinding. Lowering increases performance, but might lead to pathing glitches. [Default: 5000]")
         public int pathfindingMaxNodes = 5000;
+
+        @Config.Comment("Max amount of pathfinding jobs waiting for a thread. When full, new jobs replace queued jobs of a lower priority or are rejected. [Default: 512]")
+        public int pathfindingMaxQueuedJobs = 512;
+
+        @Config.Comment("Amount of ticks a snapshot of the blocks of a chunk is kept for pathfinding jobs without being used. Changed blocks are updated when the next job uses it. [Default: 200]")
+        public int pathfindingSnapshotTicks = 200;
+
+        @Config.Comment("Distance from which paths of citizens inside of their colony are first planned between chunks, using cached chunk connections. 0 disables it. [Default: 64]")
+        public int pathfindingHierarchicalDistance = 64;
     }
 
     public static class RequestSystem
@@ -663,6 +708,13 @@ public class Configurations
         @Config.Comment("The minimal amount of buildings the Delivery Man should try to gather before attempting a drop off at the warehouse. [Default: 3]")
         public int minimalBuildingsToGather = 3;
 
+        @Config.Comment("Should the Delivery Man carry several deliveries which are picked up and delivered close to each other on one trip? [Default: true]")
+        public boolean deliverymanTripBatching = true;
+
+        @Config.Comment("The maximal distance between the destinations of deliveries the Delivery Man carries on the same trip. [Default: 32]")
+        @Config.RangeInt(min = 0, max = 256)
+        public int deliverymanTripRadius = 32;
+
         @Config.Comment("Should the request system creatively resolve (if possible) when the player is required to resolve a request. [Default: false]")
         public boolean creativeResolve = false;
 
@@ -2,7 +2,9 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.IStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.util.TickProfiler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface ITickRateStateMachine<S extends IState> extends IStateMachine<ITickingTransition<S>, S>
 {
@@ -32,4 +34,11 @@ public interface ITickRateStateMachine<S extends IState> extends IStateMachine<I
      * @return the tickrate
      */
     void setTickRate(final int tickRate);
+
+    /**
+     * Sets the profiler sections the ticks are accounted to, by the state the tick started in.
+     *
+     * @param profilerSections the sections, null to not profile the statemachine.
+     */
+    void setProfilerSections(@Nullable final TickProfiler.SectionCache<S> profilerSections);
 }
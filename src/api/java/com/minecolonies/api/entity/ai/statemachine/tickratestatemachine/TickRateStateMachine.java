@@ -4,17 +4,21 @@ import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicStateMa
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.util.TickProfiler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Random;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate.
  * Default tickrate is 20 tps (Minecraft default).
+ * The registered transitions are compiled into dispatch tables per event type and state on first use, so a tick only visits the transitions due in it.
+ * The tables are rebuilt when transitions are added or removed, changing the tickrate of a registered transition requires to register it again.
  */
 public class TickRateStateMachine<S extends IState> extends BasicStateMachine<ITickingTransition<S>,S> implements ITickRateStateMachine<S>
 {
@@ -33,13 +37,60 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private int tickRateCounter = 0;
 
+    /**
+     * The profiler sections the ticks are accounted to per state, null if not profiled.
+     */
+    @Nullable
+    private TickProfiler.SectionCache<S> profilerSections = null;
+
+    /**
+     * The compiled transitions of the event types, null if they have to be compiled again.
+     */
+    private Dispatch<S> aiBlockingDispatch = null;
+    private Dispatch<S> eventDispatch = null;
+    private Dispatch<S> stateBlockingDispatch = null;
+
+    /**
+     * The enum the initial state belongs to, null if it is no enum constant.
+     */
+    @Nullable
+    private final Class<?> stateEnum;
+
+    /**
+     * The compiled transitions of the states of {@link #stateEnum} by ordinal, null if not compiled yet.
+     */
+    @Nullable
+    private final Dispatch<S>[] stateTable;
+
+    /**
+     * The compiled transitions of states which do not belong to {@link #stateEnum}.
+     */
+    private final Map<S, Dispatch<S>> otherStates = new HashMap<>();
+
+    /**
+     * Marks states without any registered transitions in the tables.
+     */
+    private final Dispatch<S> missingState = new Dispatch<>(null, null, null, null);
+
     /**
      * Construct a new StateMachine
      */
+    @SuppressWarnings(UNCHECKED)
     public TickRateStateMachine(@NotNull final S initialState, @NotNull final Consumer<RuntimeException> exceptionHandler)
     {
         super(initialState, exceptionHandler);
 
+        if (initialState instanceof Enum)
+        {
+            stateEnum = ((Enum<?>) initialState).getDeclaringClass();
+            stateTable = new Dispatch[stateEnum.getEnumConstants().length];
+        }
+        else
+        {
+            stateEnum = null;
+            stateTable = null;
+        }
+
         // Initial Lists
         this.eventTransitionMap.put(AIBlockingEventType.AI_BLOCKING, new ArrayList<>());
         this.eventTransitionMap.put(AIBlockingEventType.STATE_BLOCKING, new ArrayList<>());
@@ -67,45 +118,210 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
             tickCounter = 1;
         }
 
-        for (final ITickingTransition<S> transition:eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING))
+        if (profilerSections == null || !TickProfiler.isEnabled())
         {
-            if (checkTransition(transition))
-            {
+            tickTransitions();
+            return;
+        }
+
+        // Account the tick to the state it started in, whatever transition ran.
+        final TickProfiler.Section section = profilerSections.get(getState());
+        final long start = TickProfiler.start();
+        tickTransitions();
+        TickProfiler.stop(section, start);
+    }
+
+    /**
+     * Check the transitions which are due in the current tick, in the order of their event type.
+     */
+    private void tickTransitions()
+    {
+        if (aiBlockingDispatch == null)
+        {
+            aiBlockingDispatch = compile(eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING));
+            eventDispatch = compile(eventTransitionMap.get(AIBlockingEventType.EVENT));
+            stateBlockingDispatch = compile(eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING));
+        }
+
+        if (checkDue(aiBlockingDispatch) || checkDue(eventDispatch) || checkDue(stateBlockingDispatch))
+        {
+            return;
+        }
+
+        final Dispatch<S> stateDispatch = getStateDispatch(getState());
+        if (stateDispatch == null)
+        {
+                // Reached Trap/Sink state we cannot leave.
+                onException(new RuntimeException("Missing AI transition for state: " + getState()));
+                reset();
                 return;
+        }
+
+        checkDue(stateDispatch);
+    }
+
+    /**
+     * Check the transitions of a dispatch table which are due in the current tick.
+     *
+     * @param dispatch the table.
+     * @return true if a transition worked and we should stop executing this tick.
+     */
+    private boolean checkDue(@NotNull final Dispatch<S> dispatch)
+    {
+        if (dispatch.wheel != null)
+        {
+            for (final ITickingTransition<S> transition : dispatch.wheel[tickCounter % dispatch.wheel.length])
+            {
+                if (super.checkTransition(transition))
+                {
+                    return true;
+                }
             }
+            return false;
         }
 
-        for (final ITickingTransition<S> transition:eventTransitionMap.get(AIBlockingEventType.EVENT))
+        for (int i = 0; i < dispatch.transitions.length; i++)
         {
-            if (checkTransition(transition))
+            if (tickCounter % dispatch.rates[i] == dispatch.offsets[i] && super.checkTransition(dispatch.transitions[i]))
             {
-                return;
+                return true;
             }
         }
+        return false;
+    }
 
-        for (final ITickingTransition<S> transition:eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING))
+    /**
+     * Get the dispatch table of the transitions of a state, compiling it if necessary.
+     *
+     * @param state the state.
+     * @return the table or null if the state has no transitions registered.
+     */
+    @Nullable
+    private Dispatch<S> getStateDispatch(@NotNull final S state)
+    {
+        if (stateTable != null && state instanceof Enum && ((Enum<?>) state).getDeclaringClass() == stateEnum)
         {
-            if (checkTransition(transition))
+            final int index = ((Enum<?>) state).ordinal();
+            Dispatch<S> dispatch = stateTable[index];
+            if (dispatch == null)
             {
-                return;
+                dispatch = compileState(state);
+                stateTable[index] = dispatch;
             }
+            return dispatch == missingState ? null : dispatch;
         }
 
-        if (!transitionMap.containsKey(getState()))
+        Dispatch<S> dispatch = otherStates.get(state);
+        if (dispatch == null)
         {
-                // Reached Trap/Sink state we cannot leave.
-                onException(new RuntimeException("Missing AI transition for state: " + getState()));
-                reset();
-                return;
+            dispatch = compileState(state);
+            otherStates.put(state, dispatch);
         }
+        return dispatch == missingState ? null : dispatch;
+    }
+
+    /**
+     * Compile the dispatch table of a state.
+     *
+     * @param state the state.
+     * @return the table or {@link #missingState} if the state has no transitions registered.
+     */
+    @NotNull
+    private Dispatch<S> compileState(@NotNull final S state)
+    {
+        final List<ITickingTransition<S>> transitions = transitionMap.get(state);
+        return transitions == null ? missingState : compile(transitions);
+    }
 
-        for (final ITickingTransition<S> transition:transitionMap.get(getState()))
+    /**
+     * Compile a list of transitions into a dispatch table.
+     * If the least common multiple of their tickrates is small enough, a timing wheel is built: for every tick counter modulo that multiple
+     * the transitions which are due, in the order of registration. Otherwise the tickrates and offsets are kept in arrays to be scanned.
+     *
+     * @param transitions the transitions.
+     * @return the table.
+     */
+    @NotNull
+    @SuppressWarnings(UNCHECKED)
+    private static <S extends IState> Dispatch<S> compile(@NotNull final List<ITickingTransition<S>> transitions)
+    {
+        final int size = transitions.size();
+        final ITickingTransition<S>[] all = transitions.toArray(new ITickingTransition[size]);
+        final int[] rates = new int[size];
+        final int[] offsets = new int[size];
+        long wheelSize = 1;
+        for (int i = 0; i < size; i++)
         {
-            if (checkTransition(transition))
+            rates[i] = all[i].getTickRate();
+            offsets[i] = all[i].getTickOffset();
+            if (wheelSize <= MAX_TICKRATE)
             {
-                return;
+                wheelSize = wheelSize / gcd(wheelSize, rates[i]) * rates[i];
             }
         }
+
+        if (wheelSize > MAX_TICKRATE)
+        {
+            return new Dispatch<>(null, all, rates, offsets);
+        }
+
+        // Slots with the same transitions share their array.
+        final Map<List<ITickingTransition<S>>, ITickingTransition<S>[]> distinctSlots = new HashMap<>();
+        final ITickingTransition<S>[][] wheel = new ITickingTransition[(int) wheelSize][];
+        for (int slot = 0; slot < wheelSize; slot++)
+        {
+            final List<ITickingTransition<S>> due = new ArrayList<>();
+            for (int i = 0; i < size; i++)
+            {
+                if (slot % rates[i] == offsets[i])
+                {
+                    due.add(all[i]);
+                }
+            }
+            wheel[slot] = distinctSlots.computeIfAbsent(due, list -> list.toArray(new ITickingTransition[list.size()]));
+        }
+        return new Dispatch<>(wheel, all, rates, offsets);
+    }
+
+    /**
+     * Calculate the greatest common divisor.
+     *
+     * @param a the first number.
+     * @param b the second number.
+     * @return the divisor.
+     */
+    private static long gcd(final long a, final long b)
+    {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Drop the compiled dispatch tables, they are rebuilt when used next.
+     */
+    private void invalidateDispatch()
+    {
+        aiBlockingDispatch = null;
+        eventDispatch = null;
+        stateBlockingDispatch = null;
+        if (stateTable != null)
+        {
+            Arrays.fill(stateTable, null);
+        }
+        otherStates.clear();
+    }
+
+    @Override
+    public void addTransition(final ITickingTransition<S> transition)
+    {
+        super.addTransition(transition);
+        invalidateDispatch();
+    }
+
+    @Override
+    public void removeTransition(final ITickingTransition<S> transition)
+    {
+        super.removeTransition(transition);
+        invalidateDispatch();
     }
 
     /**
@@ -125,6 +341,12 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         return super.checkTransition(transition);
     }
 
+    @Override
+    public void setProfilerSections(@Nullable final TickProfiler.SectionCache<S> profilerSections)
+    {
+        this.profilerSections = profilerSections;
+    }
+
     @Override
     public int getTickRate()
     {
@@ -137,4 +359,53 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.tickRate = tickRate;
         tickRateCounter = new Random().nextInt(tickRate);
     }
+
+    /**
+     * The transitions of a list compiled for dispatching.
+     *
+     * @param <S> the state type.
+     */
+    private static final class Dispatch<S extends IState>
+    {
+        /**
+         * The transitions due per tick counter modulo the length of the wheel, null if the wheel would be too large.
+         */
+        @Nullable
+        private final ITickingTransition<S>[][] wheel;
+
+        /**
+         * All transitions in the order of registration.
+         */
+        private final ITickingTransition<S>[] transitions;
+
+        /**
+         * The tickrates of the transitions.
+         */
+        private final int[] rates;
+
+        /**
+         * The tick offsets of the transitions.
+         */
+        private final int[] offsets;
+
+        /**
+         * Create a dispatch table.
+         *
+         * @param wheel       the transitions due per slot, or null.
+         * @param transitions all transitions.
+         * @param rates       the tickrates of the transitions.
+         * @param offsets     the tick offsets of the transitions.
+         */
+        private Dispatch(
+          @Nullable final ITickingTransition<S>[][] wheel,
+          final ITickingTransition<S>[] transitions,
+          final int[] rates,
+          final int[] offsets)
+        {
+            this.wheel = wheel;
+            this.transitions = transitions;
+            this.rates = rates;
+            this.offsets = offsets;
+        }
+    }
 }
@@ -0,0 +1,275 @@
+package com.minecolonies.api.entity.ai.util;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The positions of a structure which still need work in one stage, in the order the stage iterates them.
+ * Positions are identified by their linear index, x first, then z, then y, the order the structure iterates its blocks.
+ * <p>
+ * The plan is filled by scanning the structure ahead of the builder, positions changed in the world afterwards are added again through
+ * {@link #onBlockChanged(World, BlockPos)}, so a builder can jump from one position to the next and only has to check those again.
+ * Only to be used on the server thread.
+ */
+public final class StructureBuildPlan
+{
+    /**
+     * Returned when there is no further position.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * The plans of the structures currently being worked on, which want to know about block changes.
+     */
+    private static final Set<StructureBuildPlan> activePlans = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * The stage the plan is for.
+     */
+    private final StructureIterator.Stage stage;
+
+    /**
+     * If the stage iterates from the first to the last position.
+     */
+    private final boolean forward;
+
+    /**
+     * The dimension of the world the structure is built in.
+     */
+    private final int dimension;
+
+    /**
+     * The world position of the local position 0,0,0.
+     */
+    private final BlockPos origin;
+
+    /**
+     * The size of the structure.
+     */
+    private final int width;
+    private final int height;
+    private final int length;
+
+    /**
+     * The positions which need work.
+     */
+    private final BitSet todo = new BitSet();
+
+    /**
+     * The next position to scan, positions from there on in the direction of the stage were not looked at yet.
+     */
+    private int frontier;
+
+    /**
+     * Create an empty plan, nothing is scanned yet.
+     *
+     * @param world   the world the structure is built in.
+     * @param stage   the stage.
+     * @param forward if the stage iterates from the first to the last position.
+     * @param origin  the world position of the local position 0,0,0.
+     * @param width   the width of the structure.
+     * @param height  the height of the structure.
+     * @param length  the length of the structure.
+     * @param start   the position the scan starts at.
+     */
+    public StructureBuildPlan(
+      @NotNull final World world,
+      @NotNull final StructureIterator.Stage stage,
+      final boolean forward,
+      @NotNull final BlockPos origin,
+      final int width,
+      final int height,
+      final int length,
+      final int start)
+    {
+        this.stage = stage;
+        this.forward = forward;
+        this.dimension = world.provider.getDimension();
+        this.origin = origin;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.frontier = start;
+        activePlans.add(this);
+    }
+
+    /**
+     * Called when a block in a world changed, adds the position to all plans it is part of.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote || activePlans.isEmpty())
+        {
+            return;
+        }
+
+        final int dim = world.provider.getDimension();
+        for (final StructureBuildPlan plan : activePlans)
+        {
+            if (plan.dimension == dim)
+            {
+                plan.markChanged(pos);
+            }
+        }
+    }
+
+    /**
+     * Forget all plans, for example when the server stops.
+     */
+    public static void clear()
+    {
+        activePlans.clear();
+    }
+
+    /**
+     * Stop listening to block changes, the plan is not used anymore.
+     */
+    public void discard()
+    {
+        activePlans.remove(this);
+    }
+
+    /**
+     * Add a changed world position to the plan, if it is part of the structure.
+     *
+     * @param pos the world position.
+     */
+    private void markChanged(@NotNull final BlockPos pos)
+    {
+        final int x = pos.getX() - origin.getX();
+        final int y = pos.getY() - origin.getY();
+        final int z = pos.getZ() - origin.getZ();
+        if (x >= 0 && x < width && y >= 0 && y < height && z >= 0 && z < length)
+        {
+            todo.set(getIndex(x, y, z));
+        }
+    }
+
+    /**
+     * Get the stage the plan is for.
+     *
+     * @return the stage.
+     */
+    public StructureIterator.Stage getStage()
+    {
+        return stage;
+    }
+
+    /**
+     * Get the next scanned position which needs work, after the given one in the direction of the stage.
+     *
+     * @param from the current position.
+     * @return the next position or {@link #NONE} if there is none in the scanned part.
+     */
+    public int next(final int from)
+    {
+        final int next;
+        if (forward)
+        {
+            next = todo.nextSetBit(from + 1);
+            return next < 0 || next >= frontier ? NONE : next;
+        }
+
+        next = from <= 0 ? NONE : todo.previousSetBit(Math.min(from, getVolume()) - 1);
+        return next <= frontier ? NONE : next;
+    }
+
+    /**
+     * Remove a position which turned out not to need work.
+     *
+     * @param index the position.
+     */
+    public void remove(final int index)
+    {
+        todo.clear(index);
+    }
+
+    /**
+     * Add a position which needs work.
+     *
+     * @param index the position.
+     */
+    public void add(final int index)
+    {
+        todo.set(index);
+    }
+
+    /**
+     * Check if the whole structure was scanned.
+     *
+     * @return true if so.
+     */
+    public boolean isScanned()
+    {
+        return forward ? frontier >= getVolume() : frontier < 0;
+    }
+
+    /**
+     * Get the next position to scan and move on to the one after it.
+     *
+     * @return the position to scan.
+     */
+    public int advanceFrontier()
+    {
+        final int index = frontier;
+        frontier += forward ? 1 : -1;
+        return index;
+    }
+
+    /**
+     * Get the amount of positions of the structure.
+     *
+     * @return the amount.
+     */
+    public int getVolume()
+    {
+        return width * height * length;
+    }
+
+    /**
+     * Get the index of a local position.
+     *
+     * @param x the local x.
+     * @param y the local y.
+     * @param z the local z.
+     * @return the index.
+     */
+    public int getIndex(final int x, final int y, final int z)
+    {
+        return (y * length + z) * width + x;
+    }
+
+    /**
+     * Get the local position of an index.
+     *
+     * @param index the index.
+     * @return the local position.
+     */
+    @NotNull
+    public BlockPos getLocalPosition(final int index)
+    {
+        final int layer = width * length;
+        return new BlockPos(index % width, index / layer, (index % layer) / width);
+    }
+
+    /**
+     * Get the world position of an index.
+     *
+     * @param index the index.
+     * @return the world position.
+     */
+    @NotNull
+    public BlockPos getWorldPosition(final int index)
+    {
+        return origin.add(getLocalPosition(index));
+    }
+}
@@ -1,7 +1,6 @@
 package com.minecolonies.api.entity.ai.util;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.configuration.Configurations;
@@ -18,11 +17,15 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -45,6 +48,19 @@ public class StructureIterator
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * The entities of the structure by the linear index of their local position, in the order the blocks are iterated.
+     * Built lazily the first time the spawn stage needs it.
+     */
+    @Nullable
+    private TreeMap<Integer, NBTTagCompound[]> entityIndex;
+
+    /**
+     * The build plan of the current stage, null if it was not started yet or the blocks are walked one by one.
+     */
+    @Nullable
+    private StructureBuildPlan plan;
+
     /**
      * Create a new building task.
      *
@@ -119,17 +135,14 @@ public class StructureIterator
         //failsafe for faulty structure files
         try
         {
-            tempSchematic = new Structure(targetWorld, schematicFileName, new PlacementSettings());
+            //put the building into place, shares the rotated schematic with other builders
+            tempSchematic = StructureTemplateCache.getStructure(targetWorld, schematicFileName, rotation, mirror, buildingLocation);
         }
         catch (final IllegalStateException e)
         {
             throw new StructureException("failed to load structure file!", e);
         }
 
-        //put the building into place
-        tempSchematic.rotate(BlockPosUtil.getRotationFromRotations(rotation), targetWorld, buildingLocation, mirror);
-        tempSchematic.setPosition(buildingLocation);
-        tempSchematic.setPlacementSettings(new PlacementSettings(mirror, BlockPosUtil.getRotationFromRotations(rotation)));
         if (blockProgress != null)
         {
             tempSchematic.setLocalPosition(blockProgress);
@@ -220,18 +233,17 @@ public class StructureIterator
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.theStructure::decrementBlock,
+                return advanceStage(false,
                   structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
                                       || structureBlock.worldBlock == Blocks.AIR);
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                return advanceStage(true, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
                                                                                          || structureBlock.block == Blocks.AIR
                                                                                          || !structureBlock.metadata.getMaterial().isSolid());
             case SPAWN:
-                return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
-                                                                          structureBlock.entity == null || structureBlock.entity.length <= 0);
+                return advanceToNextEntity();
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
+                return advanceStage(true, structureBlock ->
                                                                        structureBlock.doesStructureBlockEqualWorldBlock()
                                                                          || structureBlock.metadata.getMaterial().isSolid());
             case REMOVE:
@@ -242,6 +254,160 @@ public class StructureIterator
         }
     }
 
+    /**
+     * Advance to the next block of the current stage which needs work, using the build plan of the stage if enabled.
+     *
+     * @param forward        if the stage iterates from the first to the last block.
+     * @param checkIfApplies this will be evaluated to check if we should skip a block.
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result advanceStage(final boolean forward, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    {
+        if (Configurations.gameplay.builderBuildPlan && !targetWorld.isRemote)
+        {
+            return advancePlanned(forward, checkIfApplies);
+        }
+        return advanceBlocks(forward ? this.theStructure::incrementBlock : this.theStructure::decrementBlock, checkIfApplies);
+    }
+
+    /**
+     * Jump to the next block of the build plan which still needs work.
+     * The plan is scanned in slices ahead of the builder, planned blocks are checked again before they are returned since the world may have
+     * changed in the meantime.
+     *
+     * @param forward        if the stage iterates from the first to the last block.
+     * @param checkIfApplies this will be evaluated to check if we should skip a block.
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result advancePlanned(final boolean forward, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    {
+        final BlockPos start = this.theStructure.getLocalPosition().toImmutable();
+        int current = getCursorIndex(forward);
+        if (plan == null || plan.getStage() != stage)
+        {
+            if (plan != null)
+            {
+                plan.discard();
+            }
+            this.theStructure.setLocalPosition(BlockPos.ORIGIN);
+            plan = new StructureBuildPlan(targetWorld,
+              stage,
+              forward,
+              this.theStructure.getBlockPosition(),
+              getWidth(),
+              getHeight(),
+              getLength(),
+              forward ? current + 1 : current - 1);
+        }
+
+        // Blocks taken from the plan and blocks scanned for it share the limit of blocks a builder checks at once.
+        int checked = 0;
+        while (checked < Configurations.gameplay.maxBlocksCheckedByBuilder)
+        {
+            final int next = plan.next(current);
+            if (next != StructureBuildPlan.NONE)
+            {
+                this.theStructure.setLocalPosition(plan.getLocalPosition(next));
+                if (!checkIfApplies.apply(getCurrentBlock()))
+                {
+                    return Result.NEW_BLOCK;
+                }
+                plan.remove(next);
+                current = next;
+                checked++;
+            }
+            else if (plan.isScanned())
+            {
+                plan.discard();
+                plan = null;
+                return runOverEnd(forward);
+            }
+            else
+            {
+                checked += scanPlan(checkIfApplies, Configurations.gameplay.maxBlocksCheckedByBuilder - checked);
+            }
+        }
+
+        // Keep the cursor where the checks stopped, so the progress of the builder is stored correctly.
+        this.theStructure.setLocalPosition(current >= 0 && current < plan.getVolume() ? plan.getLocalPosition(current) : start);
+        return Result.CONFIG_LIMIT;
+    }
+
+    /**
+     * Scan the next slice of the structure for blocks which need work and add them to the plan.
+     * The world is read straight from the chunks, with one lookup per block.
+     *
+     * @param checkIfApplies this will be evaluated to check if we should skip a block.
+     * @param limit          the maximum amount of blocks to scan.
+     * @return the amount of blocks scanned.
+     */
+    private int scanPlan(@NotNull final Function<StructureBlock, Boolean> checkIfApplies, final int limit)
+    {
+        Chunk chunk = null;
+        int i = 0;
+        for (; i < limit && !plan.isScanned(); i++)
+        {
+            final int index = plan.advanceFrontier();
+            this.theStructure.setLocalPosition(plan.getLocalPosition(index));
+
+            final BlockPos worldPos = plan.getWorldPosition(index);
+            if (chunk == null || chunk.x != worldPos.getX() >> 4 || chunk.z != worldPos.getZ() >> 4)
+            {
+                chunk = targetWorld.getChunk(worldPos);
+            }
+            final IBlockState worldState = chunk.getBlockState(worldPos);
+
+            final StructureBlock structureBlock = new StructureBlock(this.theStructure.getBlock(),
+              worldPos,
+              this.theStructure.getBlockstate(),
+              null,
+              this.theStructure.getItem(),
+              worldState.getBlock(),
+              worldState);
+            if (!checkIfApplies.apply(structureBlock))
+            {
+                plan.add(index);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Get the linear index of the cursor of the structure.
+     *
+     * @param forward if the stage iterates from the first to the last block.
+     * @return the index, one before the first block in the direction of the stage if the cursor was not placed yet.
+     */
+    private int getCursorIndex(final boolean forward)
+    {
+        final BlockPos localPos = this.theStructure.getLocalPosition();
+        if (localPos.getX() < 0 || localPos.getY() < 0 || localPos.getZ() < 0)
+        {
+            return forward ? -1 : getWidth() * getLength() * getHeight();
+        }
+        return getLinearIndex(localPos);
+    }
+
+    /**
+     * Let the structure run over its end in the direction of the stage, so it ends the same way as walking it block by block.
+     *
+     * @param forward if the stage iterates from the first to the last block.
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result runOverEnd(final boolean forward)
+    {
+        if (forward)
+        {
+            this.theStructure.setLocalPosition(new BlockPos(getWidth() - 1, getHeight() - 1, getLength() - 1));
+            return this.theStructure.incrementBlock() ? Result.NEW_BLOCK : Result.AT_END;
+        }
+        this.theStructure.setLocalPosition(BlockPos.ORIGIN);
+        return this.theStructure.decrementBlock() ? Result.NEW_BLOCK : Result.AT_END;
+    }
+
     /**
      * Advance many blocks until either moveOneBlock or checkIfApplies return false
      * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
@@ -267,6 +433,79 @@ public class StructureIterator
         return Result.CONFIG_LIMIT;
     }
 
+    /**
+     * Move the structure backwards to the next position which has entities, skipping all blocks in between.
+     *
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result advanceToNextEntity()
+    {
+        final Map.Entry<Integer, NBTTagCompound[]> next = getEntityIndex().lowerEntry(getCursorIndex(false));
+        if (next == null)
+        {
+            return runOverEnd(false);
+        }
+
+        this.theStructure.setLocalPosition(getLocalPosition(next.getKey()));
+        return Result.NEW_BLOCK;
+    }
+
+    /**
+     * Get the entity index, build it if necessary.
+     *
+     * @return the entities by the linear index of their position.
+     */
+    @NotNull
+    private TreeMap<Integer, NBTTagCompound[]> getEntityIndex()
+    {
+        if (entityIndex == null)
+        {
+            final Map<Integer, List<NBTTagCompound>> entities = new TreeMap<>();
+            for (final NBTTagCompound data : this.theStructure.getEntityData())
+            {
+                if (data == null)
+                {
+                    continue;
+                }
+
+                final BlockPos pos = getEntityPos(data);
+                if (pos.getX() >= 0 && pos.getX() < getWidth() && pos.getY() >= 0 && pos.getY() < getHeight() && pos.getZ() >= 0 && pos.getZ() < getLength())
+                {
+                    entities.computeIfAbsent(getLinearIndex(pos), index -> new ArrayList<>()).add(data);
+                }
+            }
+
+            entityIndex = new TreeMap<>();
+            entities.forEach((index, list) -> entityIndex.put(index, list.toArray(new NBTTagCompound[0])));
+        }
+        return entityIndex;
+    }
+
+    /**
+     * Get the index of a local position in the order the structure iterates its blocks, x first, then z, then y.
+     *
+     * @param localPos the local position.
+     * @return the index.
+     */
+    private int getLinearIndex(@NotNull final BlockPos localPos)
+    {
+        return (localPos.getY() * getLength() + localPos.getZ()) * getWidth() + localPos.getX();
+    }
+
+    /**
+     * Get the local position of an index in the order the structure iterates its blocks.
+     *
+     * @param index the index.
+     * @return the local position.
+     */
+    @NotNull
+    private BlockPos getLocalPosition(final int index)
+    {
+        final int layer = getWidth() * getLength();
+        return new BlockPos(index % getWidth(), index / layer, (index % layer) / getWidth());
+    }
+
     /**
      * Gather all information needed to evaluate one block.
      *
@@ -278,7 +517,8 @@ public class StructureIterator
         final NBTTagCompound[] entityData;
         if (stage == Stage.SPAWN)
         {
-            entityData = Arrays.stream(this.theStructure.getEntityData()).filter(data -> data != null && isAtPos(data, this.theStructure.getLocalPosition())).toArray(NBTTagCompound[]::new);
+            final NBTTagCompound[] entities = getEntityIndex().get(getLinearIndex(this.theStructure.getLocalPosition()));
+            entityData = entities == null ? new NBTTagCompound[0] : entities;
         }
         else
         {
@@ -293,13 +533,19 @@ public class StructureIterator
                                    BlockPosUtil.getBlockState(targetWorld, this.theStructure.getBlockPosition()));
     }
 
-    private boolean isAtPos(@NotNull final NBTTagCompound entityData, final BlockPos pos)
+    /**
+     * Get the local block position of an entity of the structure.
+     *
+     * @param entityData the entity data.
+     * @return the position.
+     */
+    private static BlockPos getEntityPos(@NotNull final NBTTagCompound entityData)
     {
         final NBTTagList list = entityData.getTagList("Pos", 6);
         final int x = (int) list.getDoubleAt(0);
         final int y = (int) list.getDoubleAt(1);
         final int z = (int) list.getDoubleAt(2);
-        return new BlockPos(x, y, z).equals(pos);
+        return new BlockPos(x, y, z);
     }
 
     /**
@@ -0,0 +1,213 @@
+package com.minecolonies.api.entity.ai.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Least recently used cache of loaded and rotated schematics, shared by all builders building the same schematic in the same rotation.
+ * The cached blueprints are never modified again, every caller gets its own {@link Structure} around it, with its own position and progress.
+ * Schematics are identified by name and MD5, so a changed schematic file is loaded again. The amount of cached blocks is capped
+ * by {@link Configurations.Gameplay#structureCacheMaxBlocks}. Only to be used on the server thread.
+ */
+public final class StructureTemplateCache
+{
+    /**
+     * The cached blueprints, the least recently used first.
+     */
+    private static final Map<Key, Template> templates = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * The amount of blocks of all cached blueprints.
+     */
+    private static long cachedBlocks = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private StructureTemplateCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a structure to build, loading and rotating the schematic only if it is not cached.
+     *
+     * @param world    the world to build in.
+     * @param name     the name of the schematic.
+     * @param rotation the amount of times to rotate it.
+     * @param mirror   the mirror.
+     * @param position the position to build it at.
+     * @return the structure, placed at the position.
+     * @throws IllegalStateException if the schematic can not be loaded, like {@link Structure#Structure(World, String, PlacementSettings)}.
+     */
+    @NotNull
+    public static Structure getStructure(
+      @NotNull final World world,
+      @NotNull final String name,
+      final int rotation,
+      @NotNull final Mirror mirror,
+      @NotNull final BlockPos position)
+    {
+        final Rotation rotate = BlockPosUtil.getRotationFromRotations(rotation);
+        final String md5 = Structures.getMD5(name);
+        if (world.isRemote || md5 == null || Configurations.gameplay.structureCacheMaxBlocks <= 0)
+        {
+            return loadStructure(world, name, rotate, mirror, position);
+        }
+
+        final Key key = new Key(name, md5, rotate, mirror);
+        Template template = templates.get(key);
+        if (template == null)
+        {
+            final Structure loaded = loadStructure(world, name, rotate, mirror, position);
+            template = new Template(loaded.getBluePrint(), (long) loaded.getWidth() * loaded.getHeight() * loaded.getLength());
+            templates.put(key, template);
+            cachedBlocks += template.blocks;
+            evict();
+        }
+
+        final Structure structure = new Structure(world, template.blueprint, new PlacementSettings(mirror, rotate));
+        structure.setPosition(position);
+        return structure;
+    }
+
+    /**
+     * Load and rotate a schematic from its file.
+     *
+     * @param world    the world to build in.
+     * @param name     the name of the schematic.
+     * @param rotation the rotation.
+     * @param mirror   the mirror.
+     * @param position the position to build it at.
+     * @return the structure.
+     */
+    @NotNull
+    private static Structure loadStructure(
+      @NotNull final World world,
+      @NotNull final String name,
+      @NotNull final Rotation rotation,
+      @NotNull final Mirror mirror,
+      @NotNull final BlockPos position)
+    {
+        final Structure structure = new Structure(world, name, new PlacementSettings());
+        structure.rotate(rotation, world, position, mirror);
+        structure.setPosition(position);
+        structure.setPlacementSettings(new PlacementSettings(mirror, rotation));
+        return structure;
+    }
+
+    /**
+     * Remove the least recently used blueprints until the cache fits its cap again.
+     */
+    private static void evict()
+    {
+        final Iterator<Template> iterator = templates.values().iterator();
+        // The entry just added is kept, even if it is larger than the cap on its own.
+        while (cachedBlocks > Configurations.gameplay.structureCacheMaxBlocks && templates.size() > 1)
+        {
+            cachedBlocks -= iterator.next().blocks;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Drop all cached blueprints, for example when the server stops.
+     */
+    public static void clear()
+    {
+        templates.clear();
+        cachedBlocks = 0;
+    }
+
+    /**
+     * Identifies a schematic in a certain rotation.
+     */
+    private static final class Key
+    {
+        private final String   name;
+        private final String   md5;
+        private final Rotation rotation;
+        private final Mirror   mirror;
+
+        /**
+         * Create a key.
+         *
+         * @param name     the name of the schematic.
+         * @param md5      the MD5 of the schematic.
+         * @param rotation the rotation.
+         * @param mirror   the mirror.
+         */
+        private Key(@NotNull final String name, @NotNull final String md5, @NotNull final Rotation rotation, @NotNull final Mirror mirror)
+        {
+            this.name = name;
+            this.md5 = md5;
+            this.rotation = rotation;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return name.equals(key.name) && md5.equals(key.md5) && rotation == key.rotation && mirror == key.mirror;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, md5, rotation, mirror);
+        }
+    }
+
+    /**
+     * A cached blueprint.
+     */
+    private static final class Template
+    {
+        /**
+         * The loaded and rotated blueprint.
+         */
+        private final Blueprint blueprint;
+
+        /**
+         * The amount of blocks of the blueprint.
+         */
+        private final long blocks;
+
+        /**
+         * Create a cached blueprint.
+         *
+         * @param blueprint the blueprint.
+         * @param blocks    the amount of blocks.
+         */
+        private Template(@NotNull final Blueprint blueprint, final long blocks)
+        {
+            this.blueprint = blueprint;
+            this.blocks = blocks;
+        }
+    }
+}
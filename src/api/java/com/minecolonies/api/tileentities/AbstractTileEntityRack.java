@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -11,8 +12,10 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SIZE;
@@ -47,32 +50,84 @@ public abstract class AbstractTileEntityRack extends TileEntity
      */
     public class RackInventory extends ItemStackHandler
     {
+        /**
+         * The item of every slot as it was last accounted in the content of the rack, null for empty slots.
+         */
+        private ItemStorage[] slotItems;
+
+        /**
+         * The amount in every slot as it was last accounted in the content of the rack.
+         */
+        private int[] slotCounts;
+
         public RackInventory(final int defaultSize)
         {
             super(defaultSize);
+            slotItems = new ItemStorage[defaultSize];
+            slotCounts = new int[defaultSize];
+        }
+
+        @Override
+        public void setSize(final int size)
+        {
+            super.setSize(size);
+            slotItems = new ItemStorage[size];
+            slotCounts = new int[size];
         }
 
         @Override
         protected void onContentsChanged(final int slot)
         {
-            updateItemStorage();
+            final ItemStorage oldItem = slotItems[slot];
+            final int oldCount = slotCounts[slot];
+            accountSlot(slot);
+
+            // Inventories which are still being filled, like on an upgrade, don't count yet.
+            if (inventory == this)
+            {
+                onSlotChanged(oldItem, oldCount, slotItems[slot], slotCounts[slot]);
+            }
             super.onContentsChanged(slot);
         }
 
-        @Override
-        public void setStackInSlot(final int slot, final @Nonnull ItemStack stack)
+        /**
+         * Account all slots again, after stacks were changed without a notification.
+         */
+        public void resetSlotAccounting()
         {
-            super.setStackInSlot(slot, stack);
-            updateWarehouseIfAvailable(stack);
+            for (int slot = 0; slot < getSlots(); slot++)
+            {
+                accountSlot(slot);
+            }
+        }
+
+        /**
+         * Remember the item and amount of a slot, the item is only copied if it changed.
+         *
+         * @param slot the slot.
+         */
+        private void accountSlot(final int slot)
+        {
+            final ItemStack stack = getStackInSlot(slot);
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                slotItems[slot] = null;
+                slotCounts[slot] = 0;
+                return;
+            }
+
+            if (slotItems[slot] == null || !slotItems[slot].equals(new ItemStorage(stack)))
+            {
+                slotItems[slot] = new ItemStorage(stack.copy());
+            }
+            slotCounts[slot] = ItemStackUtils.getSize(stack);
         }
 
-        @NotNull
         @Override
-        public ItemStack extractItem(final int slot, final int amount, final boolean simulate)
+        public void setStackInSlot(final int slot, final @Nonnull ItemStack stack)
         {
-            final ItemStack result = super.extractItem(slot, amount, simulate);
-            updateItemStorage();
-            return result;
+            super.setStackInSlot(slot, stack);
+            updateWarehouseIfAvailable(stack);
         }
     }
 
@@ -116,6 +171,23 @@ public abstract class AbstractTileEntityRack extends TileEntity
 
     public abstract void updateItemStorage();
 
+    /**
+     * Called when the stack of a slot of the inventory changed, to update the content by the difference.
+     *
+     * @param oldItem  the item the slot held before, null if it was empty.
+     * @param oldCount the amount the slot held before.
+     * @param newItem  the item the slot holds now, null if it is empty.
+     * @param newCount the amount the slot holds now.
+     */
+    protected abstract void onSlotChanged(@Nullable ItemStorage oldItem, int oldCount, @Nullable ItemStorage newItem, int newCount);
+
+    /**
+     * Get the content of the rack, the amount per item.
+     *
+     * @return an unmodifiable view of the content.
+     */
+    public abstract Map<ItemStorage, Integer> getAllContent();
+
     protected abstract void updateBlockState();
 
     public abstract AbstractTileEntityRack getOtherChest();
@@ -1,8 +1,10 @@
 package com.minecolonies.api.tileentities;
 
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -27,6 +29,43 @@ public abstract class AbstractTileEntityWareHouse extends TileEntityColonyBuildi
 
     public abstract boolean hasMatchingItemStackInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate, int count);
 
+    /**
+     * Get the amount of items matching a predicate in the warehouse.
+     *
+     * @param itemStackSelectionPredicate the predicate.
+     * @return the total count.
+     */
+    public abstract int getCountInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate);
+
+    /**
+     * Called by a rack of the warehouse after its content changed.
+     *
+     * @param rack the rack.
+     */
+    public abstract void onRackContentChanged(@NotNull AbstractTileEntityRack rack);
+
+    /**
+     * Called by a rack of the warehouse after the amount of a single item in it changed.
+     *
+     * @param rack    the rack.
+     * @param storage the item.
+     * @param count   the new amount of the item in the rack.
+     */
+    public abstract void onRackItemChanged(@NotNull AbstractTileEntityRack rack, @NotNull ItemStorage storage, int count);
+
+    /**
+     * Called by a rack of the warehouse when it is removed.
+     *
+     * @param pos the position of the rack.
+     */
+    public abstract void onRackRemoved(@NotNull BlockPos pos);
+
+    /**
+     * Drop the item index, it will be rebuilt on the next query.
+     * Has to be called when the containers of the warehouse change.
+     */
+    public abstract void invalidateItemIndex();
+
     @NotNull
     public abstract List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate);
 
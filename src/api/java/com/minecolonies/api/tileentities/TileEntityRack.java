@@ -2,6 +2,10 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -22,7 +26,9 @@ import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -52,6 +58,11 @@ public class TileEntityRack extends AbstractTileEntityRack
      */
     private CombinedInvWrapper combinedHandler;
 
+    /**
+     * The position of the warehouse this rack belongs to, looked up on demand.
+     */
+    private BlockPos wareHousePos = null;
+
     /**
      * Check if a certain itemstack is present in the inventory.
      * This method checks the content list, it is therefore extremely fast.
@@ -191,11 +202,16 @@ public class TileEntityRack extends AbstractTileEntityRack
 
     /**
      * Scans through the whole storage and updates it.
+     * Only needed when stacks were changed without the inventory noticing, slot changes are accounted in {@link #onSlotChanged}.
      */
     @Override
     public void updateItemStorage()
     {
         content.clear();
+        if (inventory instanceof RackInventory)
+        {
+            ((RackInventory) inventory).resetSlotAccounting();
+        }
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -216,6 +232,146 @@ public class TileEntityRack extends AbstractTileEntityRack
 
         updateBlockState();
         markDirty();
+
+        final AbstractTileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onRackContentChanged(this);
+        }
+    }
+
+    @Override
+    protected void onSlotChanged(@Nullable final ItemStorage oldItem, final int oldCount, @Nullable final ItemStorage newItem, final int newCount)
+    {
+        final boolean wasEmpty = content.isEmpty();
+        if (oldItem != null)
+        {
+            final int remaining = content.getOrDefault(oldItem, 0) - oldCount;
+            if (remaining <= 0)
+            {
+                content.remove(oldItem);
+            }
+            else
+            {
+                content.put(oldItem, remaining);
+            }
+
+            if (!oldItem.equals(newItem))
+            {
+                onItemCountChanged(oldItem, Math.max(0, remaining));
+            }
+        }
+
+        if (newItem != null)
+        {
+            onItemCountChanged(newItem, content.merge(newItem, newCount, Integer::sum));
+        }
+
+        // The texture only depends on the rack being empty or not.
+        if (wasEmpty != content.isEmpty())
+        {
+            updateBlockState();
+        }
+        markDirty();
+    }
+
+    /**
+     * Called when the amount of an item in the rack changed through a slot change.
+     *
+     * @param storage the item.
+     * @param count   the new amount of the item in the rack.
+     */
+    protected void onItemCountChanged(@NotNull final ItemStorage storage, final int count)
+    {
+        final AbstractTileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onRackItemChanged(this, storage, count);
+        }
+    }
+
+    @Override
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
+    }
+
+    /**
+     * Get the warehouse this rack belongs to.
+     * Only available on the server side and for racks in a warehouse.
+     *
+     * @return the tileEntity of the warehouse or null.
+     */
+    @Nullable
+    private AbstractTileEntityWareHouse getWareHouse()
+    {
+        if (!inWarehouse || world == null || world.isRemote)
+        {
+            return null;
+        }
+
+        if (wareHousePos != null && world.isBlockLoaded(wareHousePos))
+        {
+            final TileEntity entity = world.getTileEntity(wareHousePos);
+            if (entity instanceof AbstractTileEntityWareHouse)
+            {
+                return (AbstractTileEntityWareHouse) entity;
+            }
+        }
+        wareHousePos = null;
+
+        if (!IColonyManager.getInstance().isCoordinateInAnyColony(world, pos))
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getClosestColony(world, pos);
+        if (colony == null)
+        {
+            return null;
+        }
+
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (building instanceof IWareHouse && building.getAdditionalCountainers().contains(pos)
+                  && building.getTileEntity() instanceof AbstractTileEntityWareHouse)
+            {
+                wareHousePos = building.getPosition();
+                return (AbstractTileEntityWareHouse) building.getTileEntity();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        final AbstractTileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onRackContentChanged(this);
+        }
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeFromWareHouse();
+    }
+
+    /**
+     * Remove the rack from the item index of its warehouse.
+     * Not done when the chunk of the rack unloads, the warehouse keeps counting its last known content until it is loaded again.
+     */
+    private void removeFromWareHouse()
+    {
+        final AbstractTileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onRackRemoved(pos);
+        }
     }
 
     /**
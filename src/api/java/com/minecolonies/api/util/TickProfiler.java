@@ -0,0 +1,541 @@
+package com.minecolonies.api.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.configuration.Configurations;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Measures the time spent in colony state machines, citizen AI states, pathfinding jobs and the request system, to find the colony lagging a server.
+ * Code asks for a {@link Section} once and keeps it, every sample then only adds to its counters and does not allocate:
+ * <pre>
+ * final long start = TickProfiler.start();
+ * ...
+ * TickProfiler.stop(section, start);
+ * </pre>
+ * Disabled by default, see {@link Configurations.Gameplay#enableTickProfiler} and {@link #setEnabled(boolean)}.
+ */
+public final class TickProfiler
+{
+    /**
+     * Returned by {@link #start()} while the profiler is disabled.
+     */
+    private static final long NOT_PROFILED = Long.MIN_VALUE;
+
+    /**
+     * Amount of server ticks over which the time per tick is averaged.
+     */
+    private static final int MEASURE_TICKS = 20;
+
+    /**
+     * Nanoseconds per microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1000D;
+
+    /**
+     * Id used for sections which do not belong to a colony.
+     */
+    public static final int NO_COLONY = -1;
+
+    /**
+     * All sections by their key.
+     */
+    private static final Map<String, Section> sections = new ConcurrentHashMap<>();
+
+    /**
+     * If profiling was enabled at runtime.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * The server tick counter.
+     */
+    private static long currentTick = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private TickProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * What a section measures.
+     */
+    public enum Category
+    {
+        /**
+         * The state machine of a colony.
+         */
+        COLONY(true),
+        /**
+         * The colony tick of a building type.
+         */
+        BUILDING(true),
+        /**
+         * The update of the citizen data.
+         */
+        CITIZEN(true),
+        /**
+         * The states of the citizen AI.
+         */
+        AI(true),
+        /**
+         * Updates of the request system.
+         */
+        REQUESTS(true),
+        /**
+         * Request resolvers, runs inside of other sections.
+         */
+        RESOLVER(false),
+        /**
+         * Pathfinding jobs, run on the pathfinding threads.
+         */
+        PATHFINDING(false);
+
+        /**
+         * If the time counts towards the server tick of the colony, without being part of another section.
+         */
+        private final boolean serverTick;
+
+        /**
+         * Create a category.
+         *
+         * @param serverTick if the time counts towards the server tick of the colony.
+         */
+        Category(final boolean serverTick)
+        {
+            this.serverTick = serverTick;
+        }
+
+        /**
+         * Check if the time of the category counts towards the server tick of the colony, without being part of another section.
+         *
+         * @return true if so.
+         */
+        public boolean isServerTick()
+        {
+            return serverTick;
+        }
+    }
+
+    /**
+     * Check if profiling is enabled.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled || Configurations.gameplay.enableTickProfiler;
+    }
+
+    /**
+     * Enable or disable profiling at runtime. Profiling enabled in the configuration can not be disabled.
+     *
+     * @param enable true to enable it.
+     */
+    public static void setEnabled(final boolean enable)
+    {
+        enabled = enable;
+    }
+
+    /**
+     * Start a sample.
+     *
+     * @return the start time to pass to {@link #stop(Section, long)}.
+     */
+    public static long start()
+    {
+        return isEnabled() ? System.nanoTime() : NOT_PROFILED;
+    }
+
+    /**
+     * Finish a sample and add it to a section.
+     *
+     * @param section the section.
+     * @param start   the value returned by {@link #start()}.
+     */
+    public static void stop(@NotNull final Section section, final long start)
+    {
+        if (start != NOT_PROFILED)
+        {
+            section.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get a section, creating it if necessary. Sections are meant to be kept by the caller.
+     *
+     * @param colony   the colony the section belongs to, null if none.
+     * @param category the category.
+     * @param name     the name of the section, unique in the category.
+     * @return the section.
+     */
+    @NotNull
+    public static Section getSection(@Nullable final IColony colony, @NotNull final Category category, @NotNull final String name)
+    {
+        final int dimension = colony == null ? 0 : colony.getDimension();
+        final int colonyId = colony == null ? NO_COLONY : colony.getID();
+        return sections.computeIfAbsent(dimension + ":" + colonyId + ":" + category + ":" + name, key -> new Section(dimension, colonyId, category, name));
+    }
+
+    /**
+     * Called at the start of every server tick, closes the measuring window.
+     */
+    public static void onServerTick()
+    {
+        currentTick++;
+        if (currentTick % MEASURE_TICKS == 0)
+        {
+            for (final Section section : sections.values())
+            {
+                section.lastWindowNanos = section.windowNanos.getAndSet(0);
+            }
+        }
+    }
+
+    /**
+     * Get all sections, the most expensive of the last second first.
+     *
+     * @return a sorted copy of the sections.
+     */
+    @NotNull
+    public static List<Section> getSections()
+    {
+        final List<Section> sorted = new ArrayList<>(sections.values());
+        sorted.sort(Comparator.comparingLong((Section section) -> section.lastWindowNanos).thenComparingLong(Section::getTotalNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * Get the sections of a colony, the most expensive of the last second first.
+     *
+     * @param colony the colony.
+     * @return a sorted copy of the sections.
+     */
+    @NotNull
+    public static List<Section> getSections(@NotNull final IColony colony)
+    {
+        final List<Section> colonySections = getSections();
+        colonySections.removeIf(section -> !section.belongsTo(colony));
+        return colonySections;
+    }
+
+    /**
+     * Get the time a colony spent per server tick over the last second, summed up over the sections counting towards the server tick.
+     *
+     * @param colony the colony.
+     * @return the time in microseconds.
+     */
+    public static double getMicrosPerTick(@NotNull final IColony colony)
+    {
+        double micros = 0;
+        for (final Section section : sections.values())
+        {
+            if (section.getCategory().isServerTick() && section.belongsTo(colony))
+            {
+                micros += section.getMicrosPerTick();
+            }
+        }
+        return micros;
+    }
+
+    /**
+     * Reset the counters of all sections.
+     */
+    public static void reset()
+    {
+        for (final Section section : sections.values())
+        {
+            section.reset();
+        }
+    }
+
+    /**
+     * Write all sections as CSV.
+     *
+     * @param writer the writer.
+     * @throws IOException if writing fails.
+     */
+    public static void writeCsv(@NotNull final Writer writer) throws IOException
+    {
+        writer.write("dimension,colony,category,name,samples,totalMicros,maxMicros,microsPerTick\n");
+        for (final Section section : getSections())
+        {
+            writer.write(String.format(Locale.US, "%d,%d,%s,\"%s\",%d,%.1f,%.1f,%.3f%n",
+              section.getDimension(),
+              section.getColonyId(),
+              section.getCategory(),
+              section.getName().replace("\"", "\"\""),
+              section.getCount(),
+              section.getTotalNanos() / NANOS_PER_MICRO,
+              section.getMaxNanos() / NANOS_PER_MICRO,
+              section.getMicrosPerTick()));
+        }
+    }
+
+    /**
+     * Write all sections as JSON.
+     *
+     * @param writer the writer.
+     * @throws IOException if writing fails.
+     */
+    public static void writeJson(@NotNull final Writer writer) throws IOException
+    {
+        final JsonArray array = new JsonArray();
+        for (final Section section : getSections())
+        {
+            final JsonObject object = new JsonObject();
+            object.addProperty("dimension", section.getDimension());
+            object.addProperty("colony", section.getColonyId());
+            object.addProperty("category", section.getCategory().name());
+            object.addProperty("name", section.getName());
+            object.addProperty("samples", section.getCount());
+            object.addProperty("totalMicros", section.getTotalNanos() / NANOS_PER_MICRO);
+            object.addProperty("maxMicros", section.getMaxNanos() / NANOS_PER_MICRO);
+            object.addProperty("microsPerTick", section.getMicrosPerTick());
+            array.add(object);
+        }
+        writer.write(new GsonBuilder().setPrettyPrinting().create().toJson(array));
+    }
+
+    /**
+     * Reset all sections and disable runtime profiling, for example when the server stops.
+     * Sections are kept, as they may still be referenced by static caches.
+     */
+    public static void clear()
+    {
+        reset();
+        enabled = false;
+        currentTick = 0;
+    }
+
+    /**
+     * Accumulated time of one measured piece of code. Safe to be updated from multiple threads.
+     */
+    public static final class Section
+    {
+        /**
+         * The dimension of the colony.
+         */
+        private final int dimension;
+
+        /**
+         * The id of the colony or {@link #NO_COLONY}.
+         */
+        private final int colonyId;
+
+        /**
+         * The category.
+         */
+        private final Category category;
+
+        /**
+         * The name, unique in the category.
+         */
+        private final String name;
+
+        /**
+         * The amount of samples.
+         */
+        private final AtomicLong count = new AtomicLong();
+
+        /**
+         * The total time of all samples, in nanoseconds.
+         */
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        /**
+         * The longest sample, in nanoseconds.
+         */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        /**
+         * The time of the samples in the current measuring window, in nanoseconds.
+         */
+        private final AtomicLong windowNanos = new AtomicLong();
+
+        /**
+         * The time of the samples in the last complete measuring window, in nanoseconds.
+         */
+        private volatile long lastWindowNanos = 0;
+
+        /**
+         * Create a section.
+         *
+         * @param dimension the dimension of the colony.
+         * @param colonyId  the id of the colony or {@link #NO_COLONY}.
+         * @param category  the category.
+         * @param name      the name.
+         */
+        private Section(final int dimension, final int colonyId, @NotNull final Category category, @NotNull final String name)
+        {
+            this.dimension = dimension;
+            this.colonyId = colonyId;
+            this.category = category;
+            this.name = name;
+        }
+
+        /**
+         * Add a sample.
+         *
+         * @param nanos the time of the sample.
+         */
+        private void add(final long nanos)
+        {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            windowNanos.addAndGet(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos))
+            {
+                max = maxNanos.get();
+            }
+        }
+
+        /**
+         * Reset the counters.
+         */
+        private void reset()
+        {
+            count.set(0);
+            totalNanos.set(0);
+            maxNanos.set(0);
+            windowNanos.set(0);
+            lastWindowNanos = 0;
+        }
+
+        /**
+         * Check if the section belongs to a colony.
+         *
+         * @param colony the colony.
+         * @return true if so.
+         */
+        public boolean belongsTo(@NotNull final IColony colony)
+        {
+            return colonyId == colony.getID() && dimension == colony.getDimension();
+        }
+
+        public int getDimension()
+        {
+            return dimension;
+        }
+
+        public int getColonyId()
+        {
+            return colonyId;
+        }
+
+        @NotNull
+        public Category getCategory()
+        {
+            return category;
+        }
+
+        @NotNull
+        public String getName()
+        {
+            return name;
+        }
+
+        public long getCount()
+        {
+            return count.get();
+        }
+
+        public long getTotalNanos()
+        {
+            return totalNanos.get();
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos.get();
+        }
+
+        /**
+         * Get the average time spent per server tick over the last second.
+         *
+         * @return the time in microseconds.
+         */
+        public double getMicrosPerTick()
+        {
+            return lastWindowNanos / (double) MEASURE_TICKS / NANOS_PER_MICRO;
+        }
+    }
+
+    /**
+     * Sections of one category and colony by a key, for example the AI state or the resolver class.
+     * The section of a key is looked up only once, later lookups do not allocate.
+     *
+     * @param <K> the type of the key.
+     */
+    public static final class SectionCache<K>
+    {
+        /**
+         * The colony or null.
+         */
+        @Nullable
+        private final IColony colony;
+
+        /**
+         * The category.
+         */
+        private final Category category;
+
+        /**
+         * Creates the name of the section of a key.
+         */
+        private final Function<K, String> namer;
+
+        /**
+         * The sections by key.
+         */
+        private final Map<K, Section> cache = new ConcurrentHashMap<>();
+
+        /**
+         * Create a cache.
+         *
+         * @param colony   the colony the sections belong to, null if none.
+         * @param category the category.
+         * @param namer    creates the name of the section of a key.
+         */
+        public SectionCache(@Nullable final IColony colony, @NotNull final Category category, @NotNull final Function<K, String> namer)
+        {
+            this.colony = colony;
+            this.category = category;
+            this.namer = namer;
+        }
+
+        /**
+         * Get the section of a key.
+         *
+         * @param key the key.
+         * @return the section.
+         */
+        @NotNull
+        public Section get(@NotNull final K key)
+        {
+            Section section = cache.get(key);
+            if (section == null)
+            {
+                section = getSection(colony, category, namer.apply(key));
+                cache.put(key, section);
+            }
+            return section;
+        }
+    }
+}
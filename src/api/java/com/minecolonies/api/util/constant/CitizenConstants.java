@@ -247,4 +247,39 @@ public final class CitizenConstants
      * Chance to dump, if < this then dump else not.
      */
     public static final int CHANCE_TO_DUMP = 8;
+
+    /**
+     * Synced citizen data: name, gender, entity, pause and child state, home and work building, job.
+     */
+    public static final int DIRTY_BASE = 1;
+
+    /**
+     * Synced citizen data: level, experience and skills.
+     */
+    public static final int DIRTY_SKILLS = 1 << 1;
+
+    /**
+     * Synced citizen data: health, saturation and happiness.
+     */
+    public static final int DIRTY_STATUS = 1 << 2;
+
+    /**
+     * Synced citizen data: the inventory.
+     */
+    public static final int DIRTY_INVENTORY = 1 << 3;
+
+    /**
+     * Synced citizen data: the last known position.
+     */
+    public static final int DIRTY_POSITION = 1 << 4;
+
+    /**
+     * Synced citizen data: the open interactions.
+     */
+    public static final int DIRTY_INTERACTIONS = 1 << 5;
+
+    /**
+     * All synced citizen data.
+     */
+    public static final int DIRTY_ALL = (1 << 6) - 1;
 }
@@ -495,6 +495,18 @@ public final class NbtTagConstants
      */
     public static final String TAG_HANDLER_TYPE = "handlertype";
 
+    /**
+     * Tags of the cached discovery of the compatibility manager.
+     */
+    public static final String TAG_DISCOVERY_HASH  = "hash";
+    public static final String TAG_ALL_BLOCKS      = "allBlocks";
+    public static final String TAG_SMELTABLE_ORES  = "smeltableOres";
+    public static final String TAG_ORE_BLOCKS      = "oreBlocks";
+    public static final String TAG_COMPOSTABLES    = "compostables";
+    public static final String TAG_PLANTABLES      = "plantables";
+    public static final String TAG_DISCOVERED_FOOD = "food";
+    public static final String TAG_DISCOVERED_FUEL = "fuel";
+
     /**
      * Private constructor to hide the implicit one.
      */
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -172,4 +173,18 @@ public interface IResolverHandler
      * @param shouldTriggerReassign the predicate to determine whether a request should be reassigned
      */
     void onColonyUpdate(Predicate<IRequest> shouldTriggerReassign);
+
+    /**
+     * Method used to get all resolvers that can handle requests of the given type, in the order in which they should be tried.
+     * The result is cached until a resolver is registered or removed.
+     *
+     * @param requestType The type of the request.
+     * @return The resolvers sorted by descending priority, and then by how specific their request type is.
+     */
+    IRequestResolver<?>[] getResolversForRequestType(TypeToken<?> requestType);
+
+    /**
+     * Method used to invalidate the cached resolver lookups, when the resolver data stores got replaced.
+     */
+    void invalidateResolverCache();
 }
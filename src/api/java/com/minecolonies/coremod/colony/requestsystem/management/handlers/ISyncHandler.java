@@ -0,0 +1,49 @@
+package com.minecolonies.coremod.colony.requestsystem.management.handlers;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.nbt.NBTTagCompound;
+
+public interface ISyncHandler
+{
+    IRequestManager getManager();
+
+    /**
+     * Records that the request with the given token was created, changed its state or assignment, or was removed.
+     *
+     * @param token The token of the changed request.
+     */
+    void onRequestChanged(IToken<?> token);
+
+    /**
+     * Records a change to the request system that can not be expressed per request, like a resolver being registered or removed.
+     * Forces a full snapshot on the next network update.
+     */
+    void onStructureChanged();
+
+    /**
+     * Checks if the changes since the last network update can be sent as a delta.
+     *
+     * @return True when a delta suffices, false when a full snapshot is required.
+     */
+    boolean canSendDelta();
+
+    /**
+     * Serializes all requests that changed since the last network update and clears the journal.
+     *
+     * @return The delta as NBT.
+     */
+    NBTTagCompound serializeDelta();
+
+    /**
+     * Applies a delta created by {@link #serializeDelta()} to the manager of this handler.
+     *
+     * @param nbt The delta to apply.
+     */
+    void deserializeDelta(NBTTagCompound nbt);
+
+    /**
+     * Clears the journal, for example after a full snapshot was sent to all clients.
+     */
+    void clear();
+}
@@ -47,6 +47,13 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.BASE_MAX_HEALTH;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_ALL;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_BASE;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_INTERACTIONS;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_INVENTORY;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_POSITION;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_SKILLS;
+import static com.minecolonies.api.util.constant.CitizenConstants.DIRTY_STATUS;
 import static com.minecolonies.api.util.constant.CitizenConstants.MAX_CITIZEN_LEVEL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -160,9 +167,9 @@ public class CitizenData implements ICitizenData
     private IJob job;
 
     /**
-     * If the citizen is dirty (Has to be updated on client side).
+     * The parts of the citizen which are dirty (Have to be updated on client side), see the DIRTY_ constants.
      */
-    private boolean dirty;
+    private int dirtyFields;
 
     /**
      * Minimum for citizen stats
@@ -281,6 +288,9 @@ public class CitizenData implements ICitizenData
         {
             entity = new WeakReference<>(citizen);
         }
+
+        //  The entity id is part of the view and the data of the new entity may differ, clients need everything again.
+        markDirty(DIRTY_ALL);
     }
 
     /**
@@ -289,10 +299,22 @@ public class CitizenData implements ICitizenData
     @Override
     public void markDirty()
     {
-        dirty = true;
+        markDirty(DIRTY_ALL);
+    }
+
+    @Override
+    public void markDirty(final int fields)
+    {
+        dirtyFields |= fields;
         colony.getCitizenManager().markCitizensDirty();
     }
 
+    @Override
+    public int getDirtyFields()
+    {
+        return dirtyFields;
+    }
+
     /**
      * Returns a random element in a list.
      *
@@ -521,7 +543,7 @@ public class CitizenData implements ICitizenData
     {
         this.female = isFemale;
         this.name = generateName(new Random());
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -531,7 +553,7 @@ public class CitizenData implements ICitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -564,7 +586,7 @@ public class CitizenData implements ICitizenData
     @Override
     public boolean isDirty()
     {
-        return dirty;
+        return dirtyFields != 0;
     }
 
     /**
@@ -573,7 +595,7 @@ public class CitizenData implements ICitizenData
     @Override
     public void clearDirty()
     {
-        dirty = false;
+        dirtyFields = 0;
     }
 
     /**
@@ -620,11 +642,10 @@ public class CitizenData implements ICitizenData
         if (homeBuilding != null && building != null && !homeBuilding.equals(building))
         {
             homeBuilding.removeCitizen(this);
-            markDirty();
         }
 
         homeBuilding = building;
-        markDirty();
+        markDirty(DIRTY_BASE);
 
         if (getCitizenEntity().isPresent() && getCitizenEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -684,7 +705,7 @@ public class CitizenData implements ICitizenData
                 colony.getWorkManager().clearWorkForCitizen(this);
             }
 
-            markDirty();
+            markDirty(DIRTY_BASE | DIRTY_SKILLS);
         }
     }
 
@@ -759,11 +780,15 @@ public class CitizenData implements ICitizenData
     @Override
     public void setJob(final IJob job)
     {
+        if (colony instanceof Colony)
+        {
+            ((Colony) colony).getDeliverymanRegistry().onJobChanged(this, this.job, job);
+        }
         this.job = job;
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
-        markDirty();
+        markDirty(DIRTY_BASE | DIRTY_SKILLS);
     }
 
     /**
@@ -793,68 +818,102 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, DIRTY_ALL);
+    }
+
+    /**
+     * Writes parts of the citizen data to a byte buf for transition.
+     * The groups are written in the order of their bits, {@link CitizenDataView#deserialize(ByteBuf)} reads them the same way.
+     *
+     * @param buf    Buffer to write to.
+     * @param fields the DIRTY_ bits of the data to write.
+     */
+    @Override
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, final int fields)
+    {
+        buf.writeInt(fields);
 
-        buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
+        if ((fields & DIRTY_BASE) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(paused);
+            buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
 
-        buf.writeBoolean(isChild);
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
-        }
+            buf.writeBoolean(isChild);
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
+
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
+
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+
+            buf.writeInt(colony.getID());
         }
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+        if ((fields & DIRTY_SKILLS) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+        }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+        if ((fields & DIRTY_STATUS) != 0)
+        {
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+            buf.writeDouble(getSaturation());
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-        buf.writeInt(colony.getID());
+        if ((fields & DIRTY_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
+            ByteBufUtils.writeTag(buf, compound);
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
-        BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
+        if ((fields & DIRTY_POSITION) != 0)
+        {
+            BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
+        }
 
-        if (colony.getWorld() != null)
+        if ((fields & DIRTY_INTERACTIONS) != 0)
         {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+            if (colony.getWorld() != null)
+            {
+                final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                buf.writeInt(subInteractions.size());
+                for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                {
+                    ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                }
+            }
+            else
             {
-                ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                buf.writeInt(0);
             }
         }
-        else
-        {
-            buf.writeInt(0);
-        }
     }
 
     /**
@@ -1070,6 +1129,11 @@ public class CitizenData implements ICitizenData
     @Override
     public void setLastPosition(final BlockPos lastPosition)
     {
+        if (!Objects.equals(this.lastPosition, lastPosition))
+        {
+            // Moving alone does not cause an update, the position is sent along with the next one.
+            dirtyFields |= DIRTY_POSITION;
+        }
         this.lastPosition = lastPosition;
     }
 
@@ -1258,7 +1322,7 @@ public class CitizenData implements ICitizenData
                 dexterity = Math.max(dexterity, Math.min(dexterity + 1, levelCap));
                 break;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1299,7 +1363,7 @@ public class CitizenData implements ICitizenData
     public void setIsChild(final boolean isChild)
     {
         this.isChild = isChild;
-        markDirty();
+        markDirty(DIRTY_BASE);
 
         if (colony != null)
         {
@@ -1334,7 +1398,7 @@ public class CitizenData implements ICitizenData
         {
             this.strength = strength > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : strength;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1353,7 +1417,7 @@ public class CitizenData implements ICitizenData
         {
             this.endurance = endurance > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : endurance;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1372,7 +1436,7 @@ public class CitizenData implements ICitizenData
         {
             this.charisma = charisma > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : charisma;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1391,7 +1455,7 @@ public class CitizenData implements ICitizenData
         {
             this.intelligence = intelligence > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : intelligence;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1410,7 +1474,7 @@ public class CitizenData implements ICitizenData
         {
             this.dexterity = dexterity > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : dexterity;
         }
-        markDirty();
+        markDirty(DIRTY_SKILLS);
     }
 
     /**
@@ -1466,7 +1530,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(DIRTY_SKILLS);
             return xpDrain;
         }
         return 0;
@@ -1485,7 +1549,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(DIRTY_SKILLS);
         }
     }
 
@@ -1661,7 +1725,7 @@ public class CitizenData implements ICitizenData
 
         if (!toRemove.isEmpty())
         {
-            markDirty();
+            markDirty(DIRTY_INTERACTIONS);
         }
 
         for (final IInteractionResponseHandler handler : toRemove)
@@ -1687,7 +1751,7 @@ public class CitizenData implements ICitizenData
             {
                 this.citizenChatOptions.put(childHandler.getInquiry(), (ServerCitizenInteractionResponseHandler) childHandler);
             }
-            markDirty();
+            markDirty(DIRTY_INTERACTIONS);
         }
     }
 }
@@ -23,6 +23,7 @@ import com.minecolonies.api.entity.mobs.util.MobEventsUtils;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.managers.*;
@@ -30,6 +31,7 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathGraph;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
@@ -52,6 +54,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
 import static com.minecolonies.api.util.constant.ColonyConstants.*;
@@ -133,6 +136,11 @@ public class Colony implements IColony
      */
     private final IProgressManager progressManager = new ProgressManager(this);
 
+    /**
+     * The deliverymen of the colony and their deliveries.
+     */
+    private final DeliverymanRegistry deliverymanRegistry = new DeliverymanRegistry();
+
     /**
      * The Positions which players can freely interact.
      */
@@ -241,6 +249,21 @@ public class Colony implements IColony
      */
     private boolean isActive = true;
 
+    /**
+     * If the colony was loaded since the last save. Loaded colonies tick their buildings, citizens, work orders and requests,
+     * which changes data without marking the sub systems dirty, so these have to be serialized again.
+     */
+    private boolean loadedSinceSave = true;
+
+    /**
+     * The last serialized data of the sub systems, reused while the sub system is unchanged.
+     */
+    private final SaveFragment buildingFragment    = new SaveFragment();
+    private final SaveFragment citizenFragment     = new SaveFragment();
+    private final SaveFragment workFragment        = new SaveFragment();
+    private final SaveFragment permissionsFragment = new SaveFragment();
+    private final SaveFragment requestFragment     = new SaveFragment();
+
     /**
      * The colony team color.
      */
@@ -318,6 +341,7 @@ public class Colony implements IColony
 
 
         colonyStateMachine = new TickRateStateMachine<>(INACTIVE, e -> {});
+        colonyStateMachine.setProfilerSections(new TickProfiler.SectionCache<>(this, TickProfiler.Category.COLONY, String::valueOf));
 
         colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
@@ -347,6 +371,7 @@ public class Colony implements IColony
         if (!packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
         {
             isActive = true;
+            loadedSinceSave = true;
             return ACTIVE;
         }
 
@@ -359,6 +384,16 @@ public class Colony implements IColony
         return INACTIVE;
     }
 
+    /**
+     * Get the state the colony is in.
+     *
+     * @return the state.
+     */
+    public ColonyState getState()
+    {
+        return (ColonyState) colonyStateMachine.getState();
+    }
+
     /**
      * Updates the existing subscribers
      */
@@ -369,13 +404,13 @@ public class Colony implements IColony
     }
 
     /**
-     * Ticks the request manager.
+     * Ticks the request manager, spread over the ticks by the {@link ColonyTickScheduler}.
      */
     private boolean tickRequests()
     {
         if (getRequestManager() != null)
         {
-            getRequestManager().update();
+            ColonyTickScheduler.schedule(this, getRequestManager(), () -> getRequestManager().update());
         }
         return false;
     }
@@ -387,11 +422,12 @@ public class Colony implements IColony
     {
         buildingManager.cleanUpBuildings(this);
         MobEventsUtils.tryToRaidColony(this);
-        citizenManager.onColonyTick(this);
+        ColonyTickScheduler.schedule(this, citizenManager, () -> citizenManager.onColonyTick(this));
         updateAttackingPlayers();
         raidManager.onColonyTick(this);
         buildingManager.onColonyTick(this);
         workManager.onColonyTick(this);
+        ColonyPathGraph.onColonyTick(this, world);
 
         updateChildTime();
         return false;
@@ -711,6 +747,7 @@ public class Colony implements IColony
         }
 
         this.colonyTag = compound;
+        invalidateSaveFragments();
     }
 
     /**
@@ -749,16 +786,14 @@ public class Colony implements IColony
 
         compound.setInteger(TAG_CHILD_TIME, additionalChildTime);
 
-        // Permissions
-        permissions.savePermissions(compound);
+        final boolean loaded = loadedSinceSave || colonyStateMachine.getState() == ACTIVE
+                                 || citizenManager.getCitizens().stream().anyMatch(citizen -> citizen.getCitizenEntity().isPresent());
 
-        final NBTTagCompound buildingCompound = new NBTTagCompound();
-        buildingManager.writeToNBT(buildingCompound);
-        compound.setTag(TAG_BUILDING_MANAGER, buildingCompound);
+        // Permissions
+        copyTags(permissionsFragment.get(permissions.getSaveGeneration(), false, permissions::savePermissions), compound);
 
-        final NBTTagCompound citizenCompound = new NBTTagCompound();
-        citizenManager.writeToNBT(citizenCompound);
-        compound.setTag(TAG_CITIZEN_MANAGER, citizenCompound);
+        compound.setTag(TAG_BUILDING_MANAGER, buildingFragment.get(buildingManager.getSaveGeneration(), loaded, buildingManager::writeToNBT));
+        compound.setTag(TAG_CITIZEN_MANAGER, citizenFragment.get(citizenManager.getSaveGeneration(), loaded, citizenManager::writeToNBT));
 
         colonyHappinessManager.getLockedHappinessModifier().ifPresent(d -> compound.setDouble(TAG_HAPPINESS_MODIFIER, d));
 
@@ -767,9 +802,7 @@ public class Colony implements IColony
         compound.setTag(TAG_STATS_MANAGER, statsCompound);
 
         //  Workload
-        @NotNull final NBTTagCompound workManagerCompound = new NBTTagCompound();
-        workManager.writeToNBT(workManagerCompound);
-        compound.setTag(TAG_WORK, workManagerCompound);
+        compound.setTag(TAG_WORK, workFragment.get(workManager.getSaveGeneration(), loaded, workManager::writeToNBT));
 
         progressManager.writeToNBT(compound);
         raidManager.writeToNBT(compound);
@@ -808,7 +841,8 @@ public class Colony implements IColony
         compound.setInteger(TAG_ABANDONED, packageManager.getLastContactInHours());
         compound.setBoolean(TAG_MANUAL_HOUSING, manualHousing);
         compound.setBoolean(TAG_MOVE_IN, moveIn);
-        compound.setTag(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
+        compound.setTag(TAG_REQUESTMANAGER,
+          requestFragment.get(getRequestManager().getSaveGeneration(), loaded, requestCompound -> copyTags(getRequestManager().serializeNBT(), requestCompound)));
         compound.setString(TAG_STYLE, style);
         compound.setBoolean(TAG_RAIDABLE, raidManager.canHaveRaiderEvents());
         compound.setBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
@@ -816,9 +850,83 @@ public class Colony implements IColony
         this.colonyTag = compound;
 
         isActive = false;
+        loadedSinceSave = false;
         return compound;
     }
 
+    /**
+     * Drop the cached data of all sub systems, so that the next save serializes them again.
+     */
+    private void invalidateSaveFragments()
+    {
+        buildingFragment.invalidate();
+        citizenFragment.invalidate();
+        workFragment.invalidate();
+        permissionsFragment.invalidate();
+        requestFragment.invalidate();
+        loadedSinceSave = true;
+    }
+
+    /**
+     * Put all tags of one compound into another, without copying them.
+     *
+     * @param from the compound to take the tags from.
+     * @param to   the compound to put them into.
+     */
+    private static void copyTags(@NotNull final NBTTagCompound from, @NotNull final NBTTagCompound to)
+    {
+        for (final String key : from.getKeySet())
+        {
+            to.setTag(key, from.getTag(key));
+        }
+    }
+
+    /**
+     * The last serialized data of a sub system and the dirty generation of the sub system at that time.
+     * The data is shared between the saved colony tags and therefore must never be modified.
+     */
+    private static final class SaveFragment
+    {
+        /**
+         * The generation of the cached data, -1 if there is none.
+         */
+        private int generation = -1;
+
+        /**
+         * The cached data.
+         */
+        private NBTTagCompound compound;
+
+        /**
+         * Get the data of the sub system, serializing it again only if it changed.
+         *
+         * @param currentGeneration the current dirty generation of the sub system.
+         * @param forceWrite        true if the sub system might have changed without increasing its generation.
+         * @param writer            writes the sub system to a compound.
+         * @return the data.
+         */
+        private NBTTagCompound get(final int currentGeneration, final boolean forceWrite, final Consumer<NBTTagCompound> writer)
+        {
+            if (forceWrite || compound == null || generation != currentGeneration)
+            {
+                final NBTTagCompound newCompound = new NBTTagCompound();
+                writer.accept(newCompound);
+                compound = newCompound;
+                generation = currentGeneration;
+            }
+            return compound;
+        }
+
+        /**
+         * Drop the cached data.
+         */
+        private void invalidate()
+        {
+            generation = -1;
+            compound = null;
+        }
+    }
+
     /**
      * Returns the dimension ID.
      *
@@ -1408,6 +1516,16 @@ public class Colony implements IColony
         return citizenManager;
     }
 
+    /**
+     * Get the deliverymen of the colony and their deliveries.
+     *
+     * @return the registry.
+     */
+    public DeliverymanRegistry getDeliverymanRegistry()
+    {
+        return deliverymanRegistry;
+    }
+
     /**
      * Get the colony happiness manager.
      *
@@ -1771,4 +1889,10 @@ public class Colony implements IColony
     {
         return loadedChunks.size();
     }
+
+    @Override
+    public Set<Long> getLoadedChunks()
+    {
+        return Collections.unmodifiableSet(loadedChunks);
+    }
 }
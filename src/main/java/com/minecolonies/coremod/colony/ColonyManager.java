@@ -13,8 +13,10 @@ import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.ai.basic.AITickRateController;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import io.netty.buffer.ByteBuf;
@@ -175,6 +177,7 @@ public final class ColonyManager implements IColonyManager
             Log.getLogger().warn("Deleting Colony errored, colony null");
             return;
         }
+        ColonyTickScheduler.removeColony(colony);
         final int id = colony.getID();
         final World world = colony.getWorld();
         try
@@ -737,7 +740,13 @@ public final class ColonyManager implements IColonyManager
     @Override
     public void onServerTick(@NotNull final TickEvent.ServerTickEvent event)
     {
-        if (event.phase == TickEvent.Phase.END)
+        if (event.phase == TickEvent.Phase.START)
+        {
+            ColonyTickScheduler.onServerTickStart();
+            TickProfiler.onServerTick();
+            AITickRateController.onServerTick(FMLCommonHandler.instance().getMinecraftServerInstance());
+        }
+        else if (event.phase == TickEvent.Phase.END)
         {
             for (@NotNull final IColony c : getAllColonies())
             {
@@ -875,6 +884,7 @@ public final class ColonyManager implements IColonyManager
         if (event.phase == TickEvent.Phase.END)
         {
             getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            ColonyTickScheduler.onWorldTick(event.world);
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -0,0 +1,412 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Spreads the periodic work of all colonies over the server ticks.
+ * Colonies schedule units of work (a building tick, a citizen update, a request system update) instead of running them right away.
+ * Every world tick the units of the colonies in the world are run round-robin, one unit per colony at a time, until the time budget
+ * of the server tick ({@link Configurations.Gameplay#colonyTickBudgetMicros}) is used up. The rest is deferred to the next ticks,
+ * but no unit waits longer than {@link #MAX_DEFERRAL_TICKS}. Only to be used on the server thread.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Amount of ticks a unit of work may be deferred at most, older units run even when the budget is used up.
+     */
+    private static final int MAX_DEFERRAL_TICKS = 100;
+
+    /**
+     * Amount of ticks over which the time used per colony is averaged.
+     */
+    private static final int MEASURE_TICKS = 20;
+
+    /**
+     * Nanoseconds per microsecond.
+     */
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    /**
+     * The scheduled work per dimension and colony id.
+     */
+    private static final Map<Integer, Map<Integer, ColonyWork>> workPerDimension = new HashMap<>();
+
+    /**
+     * The colonies with pending work per dimension, in the order they are served.
+     */
+    private static final Map<Integer, Deque<ColonyWork>> rotationPerDimension = new HashMap<>();
+
+    /**
+     * The server tick counter.
+     */
+    private static long currentTick = 0;
+
+    /**
+     * The time spent on scheduled work in the current server tick, in nanoseconds.
+     */
+    private static long usedThisTick = 0;
+
+    /**
+     * Amount of units which could not be run in their tick because of the budget, since the start.
+     */
+    private static long deferredUnits = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ColonyTickScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Schedule a unit of work for a colony. If a unit with the same key is still pending, the new one is dropped.
+     *
+     * @param colony the colony.
+     * @param key    identifies the work, for example the building or citizen it updates.
+     * @param work   the work.
+     */
+    public static void schedule(@NotNull final IColony colony, @NotNull final Object key, @NotNull final Runnable work)
+    {
+        final ColonyWork colonyWork = workPerDimension.computeIfAbsent(colony.getDimension(), dim -> new HashMap<>())
+                                        .computeIfAbsent(colony.getID(), id -> new ColonyWork(colony.getID()));
+        if (!colonyWork.pendingKeys.add(key))
+        {
+            return;
+        }
+
+        colonyWork.queue.add(new WorkUnit(key, work, currentTick));
+        if (!colonyWork.inRotation)
+        {
+            colonyWork.inRotation = true;
+            rotationPerDimension.computeIfAbsent(colony.getDimension(), dim -> new ArrayDeque<>()).add(colonyWork);
+        }
+    }
+
+    /**
+     * Called at the start of every server tick, resets the budget.
+     */
+    public static void onServerTickStart()
+    {
+        currentTick++;
+        usedThisTick = 0;
+
+        if (currentTick % MEASURE_TICKS == 0)
+        {
+            for (final Map<Integer, ColonyWork> colonies : workPerDimension.values())
+            {
+                for (final ColonyWork colonyWork : colonies.values())
+                {
+                    colonyWork.lastWindowNanos = colonyWork.windowNanos;
+                    colonyWork.windowNanos = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the scheduled work of the colonies of a world, as far as the budget of this server tick allows.
+     *
+     * @param world the world which is ticked.
+     */
+    public static void onWorldTick(@NotNull final World world)
+    {
+        final Deque<ColonyWork> rotation = rotationPerDimension.get(world.provider.getDimension());
+        if (rotation == null || rotation.isEmpty())
+        {
+            return;
+        }
+
+        final long budget = Configurations.gameplay.colonyTickBudgetMicros * NANOS_PER_MICRO;
+        // Every colony gets at most one turn per pass, colonies with work left go to the back.
+        int turnsInPass = rotation.size();
+        while (!rotation.isEmpty())
+        {
+            final ColonyWork colonyWork = rotation.peekFirst();
+            final WorkUnit unit = colonyWork.queue.peekFirst();
+            if (usedThisTick >= budget && currentTick - unit.scheduledAt < MAX_DEFERRAL_TICKS)
+            {
+                if (turnsInPass <= 0)
+                {
+                    deferredUnits += countPending(rotation);
+                    return;
+                }
+                // Over budget, only overdue units of the remaining colonies of this pass may still run.
+                rotation.addLast(rotation.pollFirst());
+                turnsInPass--;
+                continue;
+            }
+
+            rotation.pollFirst();
+            colonyWork.queue.pollFirst();
+            colonyWork.pendingKeys.remove(unit.key);
+            run(colonyWork, unit);
+
+            if (colonyWork.removed || colonyWork.queue.isEmpty())
+            {
+                colonyWork.inRotation = false;
+            }
+            else
+            {
+                rotation.addLast(colonyWork);
+            }
+
+            if (--turnsInPass <= 0)
+            {
+                turnsInPass = rotation.size();
+            }
+        }
+    }
+
+    /**
+     * Run a unit of work and account the time to its colony.
+     *
+     * @param colonyWork the work of the colony.
+     * @param unit       the unit to run.
+     */
+    private static void run(@NotNull final ColonyWork colonyWork, @NotNull final WorkUnit unit)
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            unit.work.run();
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().warn("Scheduled work of colony " + colonyWork.colonyId + " failed", e);
+        }
+        final long used = System.nanoTime() - start;
+        usedThisTick += used;
+        colonyWork.windowNanos += used;
+        colonyWork.totalNanos += used;
+        colonyWork.executedUnits++;
+    }
+
+    /**
+     * Count the pending units of the colonies of a rotation.
+     *
+     * @param rotation the rotation.
+     * @return the amount of units.
+     */
+    private static int countPending(@NotNull final Deque<ColonyWork> rotation)
+    {
+        int pending = 0;
+        for (final ColonyWork colonyWork : rotation)
+        {
+            pending += colonyWork.queue.size();
+        }
+        return pending;
+    }
+
+    /**
+     * Drop the pending work of a colony, for example when it is deleted.
+     *
+     * @param colony the colony.
+     */
+    public static void removeColony(@NotNull final IColony colony)
+    {
+        final Map<Integer, ColonyWork> colonies = workPerDimension.get(colony.getDimension());
+        if (colonies == null)
+        {
+            return;
+        }
+
+        final ColonyWork colonyWork = colonies.remove(colony.getID());
+        if (colonyWork == null)
+        {
+            return;
+        }
+
+        colonyWork.removed = true;
+        final Deque<ColonyWork> rotation = rotationPerDimension.get(colony.getDimension());
+        if (rotation != null)
+        {
+            rotation.remove(colonyWork);
+        }
+    }
+
+    /**
+     * Drop all pending work, for example when the server stops.
+     */
+    public static void clear()
+    {
+        workPerDimension.clear();
+        rotationPerDimension.clear();
+        usedThisTick = 0;
+        deferredUnits = 0;
+    }
+
+    /**
+     * Get the average time a colony spent on scheduled work per tick, measured over the last second.
+     *
+     * @param colony the colony.
+     * @return the time in microseconds.
+     */
+    public static long getAverageMicrosPerTick(@NotNull final IColony colony)
+    {
+        final ColonyWork colonyWork = getWork(colony);
+        return colonyWork == null ? 0 : colonyWork.lastWindowNanos / MEASURE_TICKS / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Get the total time a colony spent on scheduled work.
+     *
+     * @param colony the colony.
+     * @return the time in microseconds.
+     */
+    public static long getTotalMicros(@NotNull final IColony colony)
+    {
+        final ColonyWork colonyWork = getWork(colony);
+        return colonyWork == null ? 0 : colonyWork.totalNanos / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Get the amount of units of a colony waiting to be run.
+     *
+     * @param colony the colony.
+     * @return the amount.
+     */
+    public static int getPendingUnits(@NotNull final IColony colony)
+    {
+        final ColonyWork colonyWork = getWork(colony);
+        return colonyWork == null ? 0 : colonyWork.queue.size();
+    }
+
+    /**
+     * Get the amount of units of a colony which were run so far.
+     *
+     * @param colony the colony.
+     * @return the amount.
+     */
+    public static long getExecutedUnits(@NotNull final IColony colony)
+    {
+        final ColonyWork colonyWork = getWork(colony);
+        return colonyWork == null ? 0 : colonyWork.executedUnits;
+    }
+
+    /**
+     * Get the amount of times units were deferred to a later tick because the budget was used up.
+     *
+     * @return the amount.
+     */
+    public static long getDeferredUnits()
+    {
+        return deferredUnits;
+    }
+
+    /**
+     * Get the scheduled work of a colony.
+     *
+     * @param colony the colony.
+     * @return the work or null if nothing was scheduled yet.
+     */
+    private static ColonyWork getWork(@NotNull final IColony colony)
+    {
+        final Map<Integer, ColonyWork> colonies = workPerDimension.get(colony.getDimension());
+        return colonies == null ? null : colonies.get(colony.getID());
+    }
+
+    /**
+     * The scheduled work of a colony and the time it used.
+     */
+    private static final class ColonyWork
+    {
+        /**
+         * The id of the colony.
+         */
+        private final int colonyId;
+
+        /**
+         * The pending units in the order they were scheduled.
+         */
+        private final Deque<WorkUnit> queue = new ArrayDeque<>();
+
+        /**
+         * The keys of the pending units.
+         */
+        private final Set<Object> pendingKeys = new HashSet<>();
+
+        /**
+         * If the colony is part of the rotation of its dimension.
+         */
+        private boolean inRotation = false;
+
+        /**
+         * If the colony was removed while its work was running.
+         */
+        private boolean removed = false;
+
+        /**
+         * Time used in the current measuring window, in nanoseconds.
+         */
+        private long windowNanos = 0;
+
+        /**
+         * Time used in the last complete measuring window, in nanoseconds.
+         */
+        private long lastWindowNanos = 0;
+
+        /**
+         * Total time used, in nanoseconds.
+         */
+        private long totalNanos = 0;
+
+        /**
+         * Total amount of units run.
+         */
+        private long executedUnits = 0;
+
+        /**
+         * Create the work of a colony.
+         *
+         * @param colonyId the id of the colony.
+         */
+        private ColonyWork(final int colonyId)
+        {
+            this.colonyId = colonyId;
+        }
+    }
+
+    /**
+     * A scheduled unit of work.
+     */
+    private static final class WorkUnit
+    {
+        /**
+         * The key identifying the work.
+         */
+        private final Object key;
+
+        /**
+         * The work.
+         */
+        private final Runnable work;
+
+        /**
+         * The server tick the unit was scheduled in.
+         */
+        private final long scheduledAt;
+
+        /**
+         * Create a unit of work.
+         *
+         * @param key         the key identifying the work.
+         * @param work        the work.
+         * @param scheduledAt the server tick the unit was scheduled in.
+         */
+        private WorkUnit(@NotNull final Object key, @NotNull final Runnable work, final long scheduledAt)
+        {
+            this.key = key;
+            this.work = work;
+            this.scheduledAt = scheduledAt;
+        }
+    }
+}
@@ -260,17 +260,34 @@ public final class ColonyView implements IColonyView
 
         if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
         {
-            final int preSize = buf.writerIndex();
-            final int preState = buf.readerIndex();
-            buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
+            //  Existing subscribers only receive the requests which changed since the last update.
+            if (!hasNewSubscribers && colony.getRequestManager().canSendDelta())
             {
-                colony.getRequestManager().reset();
-                buf.setIndex(preState, preSize);
+                buf.writeBoolean(true);
+                buf.writeBoolean(false);
+                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeDeltaNBT());
+            }
+            else
+            {
+                final int preSize = buf.writerIndex();
+                final int preState = buf.readerIndex();
+                buf.writeBoolean(true);
                 buf.writeBoolean(true);
                 ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+                final int postSize = buf.writerIndex();
+                if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
+                {
+                    colony.getRequestManager().reset();
+                    buf.setIndex(preState, preSize);
+                    buf.writeBoolean(true);
+                    buf.writeBoolean(true);
+                    ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+                }
+
+                if (!hasNewSubscribers)
+                {
+                    colony.getRequestManager().clearDelta();
+                }
             }
         }
         else
@@ -542,6 +559,12 @@ public final class ColonyView implements IColonyView
         return 0;
     }
 
+    @Override
+    public Set<Long> getLoadedChunks()
+    {
+        return Collections.emptySet();
+    }
+
     /**
      * Sets if citizens can move in.
      *
@@ -759,9 +782,17 @@ public final class ColonyView implements IColonyView
 
         if (buf.readBoolean())
         {
+            final boolean isSnapshot = buf.readBoolean();
             final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
+            if (isSnapshot)
+            {
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserializeNBT(compound);
+            }
+            else if (this.requestManager != null)
+            {
+                this.requestManager.deserializeDeltaNBT(compound);
+            }
         }
 
         final int barbSpawnListSize = buf.readInt();
@@ -837,8 +868,8 @@ public final class ColonyView implements IColonyView
 
     /**
      * Update a ColonyView's citizens given a network data ColonyView update
-     * packet. This uses a full-replacement - citizens do not get updated and
-     * are instead overwritten.
+     * packet. Known citizens are updated with the data contained, which may
+     * only be the changed parts, new citizens are created from the full data.
      *
      * @param id  ID of the citizen.
      * @param buf Network data.
@@ -19,6 +19,7 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -43,6 +44,7 @@ import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -103,6 +105,31 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
      */
     private String customName = "";
 
+    /**
+     * The keep entry matching an item, per item, for dumps into the building and into the inventory.
+     * Null values mean that nothing has to be kept of the item. Valid for one tick and until the requests of the building change.
+     */
+    private final Map<ItemStorage, Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>>> keepIndex          = new HashMap<>();
+    private final Map<ItemStorage, Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>>> inventoryKeepIndex = new HashMap<>();
+
+    /**
+     * The items to keep the keep index was built from, null if not built yet.
+     */
+    @Nullable
+    private Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> keepIndexSource;
+
+    /**
+     * The open deliverable requests of the building by requested item, with the ones not requesting a single item under null.
+     * Null if not built yet, has the same validity as the keep index.
+     */
+    @Nullable
+    private Map<Item, List<IDeliverable>> openDeliverables;
+
+    /**
+     * The world time the keep index was built in.
+     */
+    private long keepIndexTime = -1;
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -646,47 +673,153 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     @Override
     public int buildingRequiresCertainAmountOfItem(final ItemStack stack, final List<ItemStorage> localAlreadyKept, final boolean inventory)
     {
-        for (final Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>> entry : getRequiredItemsAndAmount().entrySet())
+        final Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>> entry = getKeepEntry(stack, inventory);
+        if (entry != null)
         {
-            if (inventory && !entry.getValue().getSecond())
+            final ItemStorage kept = ItemStorage.getItemStackOfListMatchingPredicate(localAlreadyKept, entry.getKey());
+            final int toKeep = entry.getValue().getFirst();
+            int rest = stack.getCount() - toKeep;
+            if (kept != null)
             {
-                continue;
+                if (kept.getAmount() >= toKeep)
+                {
+                    return stack.getCount();
+                }
+
+                rest = kept.getAmount() + stack.getCount() - toKeep;
+
+                localAlreadyKept.remove(kept);
+                kept.setAmount(kept.getAmount() + ItemStackUtils.getSize(stack) - Math.max(0, rest));
+                localAlreadyKept.add(kept);
+            }
+            else
+            {
+                final ItemStorage newStorage = new ItemStorage(stack);
+                newStorage.setAmount(ItemStackUtils.getSize(stack) - Math.max(0, rest));
+                localAlreadyKept.add(newStorage);
             }
 
-            if (entry.getKey().test(stack))
+            if (rest <= 0)
             {
-                final ItemStorage kept = ItemStorage.getItemStackOfListMatchingPredicate(localAlreadyKept, entry.getKey());
-                final int toKeep = entry.getValue().getFirst();
-                int rest = stack.getCount() - toKeep;
-                if (kept != null)
-                {
-                    if (kept.getAmount() >= toKeep)
-                    {
-                        return stack.getCount();
-                    }
+                return 0;
+            }
 
-                    rest = kept.getAmount() + stack.getCount() - toKeep;
+            return Math.min(rest, ItemStackUtils.getSize(stack));
+        }
+        return stack.getCount();
+    }
 
-                    localAlreadyKept.remove(kept);
-                    kept.setAmount(kept.getAmount() + ItemStackUtils.getSize(stack) - Math.max(0, rest));
-                    localAlreadyKept.add(kept);
-                }
-                else
+    /**
+     * Get the first entry of {@link #getRequiredItemsAndAmount()} matching a stack, looked up once per item and tick.
+     *
+     * @param stack     the stack.
+     * @param inventory if it should be in the inventory or in the building.
+     * @return the entry or null if nothing has to be kept of it.
+     */
+    @Nullable
+    private Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>> getKeepEntry(final ItemStack stack, final boolean inventory)
+    {
+        validateKeepIndex();
+        final Map<ItemStorage, Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>>> index = inventory ? inventoryKeepIndex : keepIndex;
+        final ItemStorage key = new ItemStorage(stack);
+        if (index.containsKey(key))
+        {
+            return index.get(key);
+        }
+
+        if (keepIndexSource == null)
+        {
+            keepIndexSource = getRequiredItemsAndAmount();
+        }
+
+        Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>> match = null;
+        for (final Map.Entry<Predicate<ItemStack>, Tuple<Integer, Boolean>> entry : keepIndexSource.entrySet())
+        {
+            if ((!inventory || entry.getValue().getSecond()) && entry.getKey().test(stack))
+            {
+                match = entry;
+                break;
+            }
+        }
+        index.put(new ItemStorage(stack.copy()), match);
+        return match;
+    }
+
+    /**
+     * Drop the keep index if it was built in an earlier tick, the items to keep may depend on anything in the building.
+     */
+    private void validateKeepIndex()
+    {
+        final long time = colony.getWorld() == null ? -1 : colony.getWorld().getTotalWorldTime();
+        if (time != keepIndexTime)
+        {
+            invalidateKeepIndex();
+            keepIndexTime = time;
+        }
+    }
+
+    /**
+     * Drop the keep index, for example because the requests of the building changed.
+     */
+    protected void invalidateKeepIndex()
+    {
+        keepIndex.clear();
+        inventoryKeepIndex.clear();
+        keepIndexSource = null;
+        openDeliverables = null;
+    }
+
+    /**
+     * Check if one of the open deliverable requests of the building matches a stack.
+     *
+     * @param stack the stack.
+     * @return true if so.
+     */
+    private boolean isRequestedByOpenRequest(final ItemStack stack)
+    {
+        validateKeepIndex();
+        if (openDeliverables == null)
+        {
+            openDeliverables = new HashMap<>();
+            final IRequestManager manager = colony.getRequestManager();
+            for (final Collection<IToken<?>> tokens : getOpenRequestsByCitizen().values())
+            {
+                for (final IToken<?> token : tokens)
                 {
-                    final ItemStorage newStorage = new ItemStorage(stack);
-                    newStorage.setAmount(ItemStackUtils.getSize(stack) - Math.max(0, rest));
-                    localAlreadyKept.add(newStorage);
+                    final IRequest<?> request = manager.getRequestForToken(token);
+                    if (request != null && request.getRequest() instanceof IDeliverable)
+                    {
+                        // Single stack requests only match their own item, the rest has to be tested against every stack.
+                        final Item item = request.getRequest() instanceof Stack ? ((Stack) request.getRequest()).getStack().getItem() : null;
+                        openDeliverables.computeIfAbsent(item, key -> new ArrayList<>()).add((IDeliverable) request.getRequest());
+                    }
                 }
+            }
+        }
+
+        return matchesAny(openDeliverables.get(stack.getItem()), stack) || matchesAny(openDeliverables.get(null), stack);
+    }
 
-                if (rest <= 0)
+    /**
+     * Check if one of the deliverables matches a stack.
+     *
+     * @param deliverables the deliverables, may be null.
+     * @param stack        the stack.
+     * @return true if so.
+     */
+    private static boolean matchesAny(@Nullable final List<IDeliverable> deliverables, final ItemStack stack)
+    {
+        if (deliverables != null)
+        {
+            for (final IDeliverable deliverable : deliverables)
+            {
+                if (deliverable.matches(stack))
                 {
-                    return 0;
+                    return true;
                 }
-
-                return Math.min(rest, ItemStackUtils.getSize(stack));
             }
         }
-        return stack.getCount();
+        return false;
     }
 
     /**
@@ -700,12 +833,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     public Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> getRequiredItemsAndAmount()
     {
         final Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> toKeep = new HashMap<>(keepX);
-        final IRequestManager manager = colony.getRequestManager();
-        toKeep.put(stack -> this.getOpenRequestsByCitizen().values().stream()
-                              .anyMatch(list -> list.stream().filter(token -> manager.getRequestForToken(token) != null)
-                                                  .anyMatch(token -> manager.getRequestForToken(token).getRequest() instanceof IDeliverable
-                                                                       && ((IDeliverable) manager.getRequestForToken(token).getRequest()).matches(stack))),
-          new Tuple<>(Integer.MAX_VALUE, true));
+        toKeep.put(this::isRequestedByOpenRequest, new Tuple<>(Integer.MAX_VALUE, true));
 
         return toKeep;
     }
@@ -832,6 +960,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
             citizenData.getJob().getAsyncRequests().add(requestToken);
         }
         addRequestToMaps(citizenData.getId(), requestToken, TypeToken.of(requested.getClass()));
+        invalidateKeepIndex();
 
         colony.getRequestManager().assignRequest(requestToken);
 
@@ -853,6 +982,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     {
         final IToken requestToken = colony.getRequestManager().createRequest(requester, requested);
         addRequestToMaps(-1, requestToken, TypeToken.of(requested.getClass()));
+        invalidateKeepIndex();
 
         colony.getRequestManager().assignRequest(requestToken);
 
@@ -1027,6 +1157,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         getOpenRequestsByCitizen().remove(data.getId());
 
         getCompletedRequestsByCitizen().remove(data.getId());
+        invalidateKeepIndex();
 
         markDirty();
     }
@@ -1269,6 +1400,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
             getCompletedRequestsByCitizen().put(citizenThatRequested, new ArrayList<>());
         }
         getCompletedRequestsByCitizen().get(citizenThatRequested).add(request.getId());
+        invalidateKeepIndex();
 
         markDirty();
     }
@@ -1299,6 +1431,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         {
             getColony().getCitizenManager().getCitizen(citizenThatRequested).onRequestCancelled(request.getId());
         }
+        invalidateKeepIndex();
         markDirty();
     }
 
@@ -178,6 +178,26 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
         return new HashSet<>(Collections.unmodifiableSet(registeredDeliverymen));
     }
 
+    @Override
+    public void addContainerPosition(@NotNull final BlockPos pos)
+    {
+        super.addContainerPosition(pos);
+        if (getTileEntity() != null)
+        {
+            getTileEntity().invalidateItemIndex();
+        }
+    }
+
+    @Override
+    public void removeContainerPosition(final BlockPos pos)
+    {
+        super.removeContainerPosition(pos);
+        if (getTileEntity() != null)
+        {
+            getTileEntity().invalidateItemIndex();
+        }
+    }
+
     @Override
     public void deserializeNBT(final NBTTagCompound compound)
     {
@@ -16,6 +16,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.sounds.DeliverymanSounds;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
 import net.minecraft.entity.SharedMonsterAttributes;
@@ -218,6 +219,28 @@ public class JobDeliveryman extends AbstractJob
     public void addRequest(@NotNull final IToken<?> token)
     {
         getTaskQueueFromDataStore().add(token);
+        if (getColony() instanceof Colony)
+        {
+            ((Colony) getColony()).getDeliverymanRegistry().onTaskAdded(token, getCitizen());
+        }
+    }
+
+    /**
+     * Move tasks to the front of the queue, in the given order, for example the deliveries of a planned trip.
+     * Tokens which are not queued are ignored.
+     *
+     * @param tokens the tokens of the tasks, in the order they should be processed.
+     */
+    public void prioritizeTasks(@NotNull final List<IToken<?>> tokens)
+    {
+        final LinkedList<IToken<?>> queue = getTaskQueueFromDataStore();
+        for (int i = tokens.size() - 1; i >= 0; i--)
+        {
+            if (queue.remove(tokens.get(i)))
+            {
+                queue.addFirst(tokens.get(i));
+            }
+        }
     }
 
     /**
@@ -234,6 +257,7 @@ public class JobDeliveryman extends AbstractJob
 
         this.setReturning(true);
         final IToken<?> current = getTaskQueueFromDataStore().getFirst();
+        onTaskRemoved(current);
 
         getColony().getRequestManager().updateRequestState(current, successful ? RequestState.RESOLVED : RequestState.CANCELLED);
 
@@ -257,6 +281,20 @@ public class JobDeliveryman extends AbstractJob
             }
 
             getTaskQueueFromDataStore().remove(token);
+            onTaskRemoved(token);
+        }
+    }
+
+    /**
+     * Tell the deliveryman registry of the colony that a task left the queue.
+     *
+     * @param token token of the task.
+     */
+    private void onTaskRemoved(@NotNull final IToken<?> token)
+    {
+        if (getColony() instanceof Colony)
+        {
+            ((Colony) getColony()).getDeliverymanRegistry().onTaskRemoved(token);
         }
     }
 
@@ -270,6 +308,27 @@ public class JobDeliveryman extends AbstractJob
         return ImmutableList.copyOf(getTaskQueueFromDataStore());
     }
 
+    /**
+     * Get the amount of queued tasks, without copying the queue.
+     *
+     * @return the amount.
+     */
+    public int getTaskQueueSize()
+    {
+        return getTaskQueueFromDataStore().size();
+    }
+
+    /**
+     * Check if a task is queued at this job.
+     *
+     * @param token token of the task.
+     * @return true if so.
+     */
+    public boolean isQueued(@NotNull final IToken<?> token)
+    {
+        return getTaskQueueFromDataStore().contains(token);
+    }
+
     /**
      * Method used to check if this DMan is trying to return to the warehouse to clean up.
      *
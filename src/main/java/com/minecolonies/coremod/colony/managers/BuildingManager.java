@@ -16,8 +16,10 @@ import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.*;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
@@ -75,11 +77,21 @@ public class BuildingManager implements IBuildingManager
      */
     private boolean isFieldsDirty = false;
 
+    /**
+     * Increased on every change of the buildings or fields that has to be saved.
+     */
+    private int saveGeneration = 0;
+
     /**
      * The colony of the manager.
      */
     private final Colony colony;
 
+    /**
+     * The profiler sections of the colony ticks per building type.
+     */
+    private final TickProfiler.SectionCache<Class<?>> profilerSections;
+
     /**
      * Creates the BuildingManager for a colony.
      *
@@ -88,6 +100,7 @@ public class BuildingManager implements IBuildingManager
     public BuildingManager(final Colony colony)
     {
         this.colony = colony;
+        this.profilerSections = new TickProfiler.SectionCache<>(colony, TickProfiler.Category.BUILDING, Class::getSimpleName);
     }
 
     @Override
@@ -173,13 +186,17 @@ public class BuildingManager implements IBuildingManager
     @Override
     public void onColonyTick(final IColony colony)
     {
-        //  Tick Buildings
+        //  Tick Buildings, spread over the next ticks
         for (@NotNull final IBuilding building : buildings.values())
         {
-            if (colony.getWorld().isBlockLoaded(building.getPosition()))
-            {
-                building.onColonyTick(colony);
-            }
+            ColonyTickScheduler.schedule(colony, building, () -> {
+                if (buildings.get(building.getID()) == building && colony.getWorld() != null && colony.getWorld().isBlockLoaded(building.getPosition()))
+                {
+                    final long start = TickProfiler.start();
+                    building.onColonyTick(colony);
+                    TickProfiler.stop(profilerSections.get(building.getClass()), start);
+                }
+            });
         }
     }
 
@@ -187,6 +204,13 @@ public class BuildingManager implements IBuildingManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        saveGeneration++;
+    }
+
+    @Override
+    public int getSaveGeneration()
+    {
+        return saveGeneration;
     }
 
     @Override
@@ -382,6 +406,7 @@ public class BuildingManager implements IBuildingManager
     {
         if (buildings.remove(building.getID()) != null)
         {
+            saveGeneration++;
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
@@ -465,6 +490,7 @@ public class BuildingManager implements IBuildingManager
     private void markFieldsDirty()
     {
         isFieldsDirty = true;
+        saveGeneration++;
     }
 
     /**
@@ -501,7 +527,7 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    colony.getPackageManager().broadcastView(building::serializeToView, buf -> new ColonyViewBuildingViewMessage(building, buf), players);
                 }
             }
         }
@@ -519,7 +545,7 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    colony.getPackageManager().broadcastView(building::serializeToView, buf -> new ColonyViewBuildingViewMessage(building, buf), players);
                 }
             }
         }
@@ -535,6 +561,7 @@ public class BuildingManager implements IBuildingManager
         if (!fields.contains(pos))
         {
             fields.add(pos);
+            saveGeneration++;
         }
         colony.markDirty();
     }
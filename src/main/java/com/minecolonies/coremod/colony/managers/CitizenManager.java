@@ -11,9 +11,11 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
@@ -42,17 +44,32 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZENS;
 
 public class CitizenManager implements ICitizenManager
 {
+    /**
+     * Name of the profiler section of the citizen data updates.
+     */
+    private static final String CITIZEN_TICK_SECTION = "CitizenData/tick";
+
     /**
      * Map of citizens with ID,CitizenData
      */
     @NotNull
     private final Map<Integer, ICitizenData> citizens = new HashMap<>();
 
+    /**
+     * The players which received the complete view of each citizen, by citizen id, later updates to them only contain the changed parts.
+     */
+    private final Map<Integer, Set<UUID>> playersWithFullView = new HashMap<>();
+
     /**
      * Variables to determine if citizens have to be updated on the client side.
      */
     private boolean isCitizensDirty = false;
 
+    /**
+     * Increased on every change of the citizens that has to be saved.
+     */
+    private int saveGeneration = 0;
+
     /**
      * The highest citizen id.
      */
@@ -73,6 +90,11 @@ public class CitizenManager implements ICitizenManager
      */
     private final Colony colony;
 
+    /**
+     * The profiler section of the citizen data updates.
+     */
+    private final TickProfiler.SectionCache<String> profilerSections;
+
     /**
      * The initial citizen spawn interval
      */
@@ -86,6 +108,7 @@ public class CitizenManager implements ICitizenManager
     public CitizenManager(final Colony colony)
     {
         this.colony = colony;
+        this.profilerSections = new TickProfiler.SectionCache<>(colony, TickProfiler.Category.CITIZEN, name -> name);
     }
 
     @Override
@@ -122,17 +145,51 @@ public class CitizenManager implements ICitizenManager
     {
         if (isCitizensDirty || !newSubscribers.isEmpty())
         {
-            final Set<EntityPlayerMP> players = isCitizensDirty ? closeSubscribers : newSubscribers;
+            //  New subscribers have to receive every citizen completely again.
+            for (final EntityPlayerMP player : newSubscribers)
+            {
+                playersWithFullView.values().forEach(players -> players.remove(player.getUniqueID()));
+            }
+
+            final Set<EntityPlayerMP> allPlayers = new HashSet<>(closeSubscribers);
+            allPlayers.addAll(newSubscribers);
+
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
                 if (citizen.getCitizenEntity().isPresent())
                 {
-                    if (citizen.isDirty() || !newSubscribers.isEmpty())
+                    //  Players which did not receive this citizen yet get the complete view, everybody else only the changed parts.
+                    final Set<UUID> received = playersWithFullView.computeIfAbsent(citizen.getId(), id -> new HashSet<>());
+                    final Set<EntityPlayerMP> fullViewPlayers = new HashSet<>();
+                    final Set<EntityPlayerMP> updatedPlayers = new HashSet<>();
+                    for (final EntityPlayerMP player : allPlayers)
                     {
-                        players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        if (received.add(player.getUniqueID()))
+                        {
+                            fullViewPlayers.add(player);
+                        }
+                        else
+                        {
+                            updatedPlayers.add(player);
+                        }
+                    }
+
+                    if (!fullViewPlayers.isEmpty())
+                    {
+                        colony.getPackageManager()
+                          .broadcastView(citizen::serializeViewNetworkData, buf -> new ColonyViewCitizenViewMessage(colony, citizen, buf), fullViewPlayers);
+                    }
+
+                    if (isCitizensDirty && citizen.isDirty() && !updatedPlayers.isEmpty())
+                    {
+                        final int fields = citizen.getDirtyFields();
+                        colony.getPackageManager()
+                          .broadcastView(buf -> citizen.serializeViewNetworkData(buf, fields), buf -> new ColonyViewCitizenViewMessage(colony, citizen, buf), updatedPlayers);
                     }
                 }
             }
+
+            final Set<EntityPlayerMP> players = isCitizensDirty ? closeSubscribers : newSubscribers;
             players.forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
         }
     }
@@ -217,6 +274,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCitizen();
         citizens.put(citizenData.getId(), citizenData);
+        saveGeneration++;
 
         return citizenData;
     }
@@ -226,6 +284,8 @@ public class CitizenManager implements ICitizenManager
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        playersWithFullView.remove(citizen.getId());
+        saveGeneration++;
 
         if (citizen.getWorkBuilding() != null)
         {
@@ -323,6 +383,13 @@ public class CitizenManager implements ICitizenManager
     {
         colony.markDirty();
         isCitizensDirty = true;
+        saveGeneration++;
+    }
+
+    @Override
+    public int getSaveGeneration()
+    {
+        return saveGeneration;
     }
 
     @Override
@@ -335,7 +402,8 @@ public class CitizenManager implements ICitizenManager
     public void clearDirty()
     {
         isCitizensDirty = false;
-        citizens.values().forEach(ICitizenData::clearDirty);
+        //  Citizens without an entity were not sent, their changes are kept for the next update.
+        citizens.values().stream().filter(citizen -> citizen.getCitizenEntity().isPresent()).forEach(ICitizenData::clearDirty);
     }
 
     @Override
@@ -469,7 +537,17 @@ public class CitizenManager implements ICitizenManager
     @Override
     public void tickCitizenData()
     {
-        this.getCitizens().forEach(ICitizenData::tick);
+        for (final ICitizenData citizen : citizens.values())
+        {
+            ColonyTickScheduler.schedule(colony, citizen, () -> {
+                if (citizens.get(citizen.getId()) == citizen)
+                {
+                    final long start = TickProfiler.start();
+                    citizen.tick();
+                    TickProfiler.stop(profilerSections.get(CITIZEN_TICK_SECTION), start);
+                }
+            });
+        }
     }
 
     /**
@@ -9,6 +9,7 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
+import com.minecolonies.coremod.network.NetworkMetrics;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewWorkOrderMessage;
@@ -17,10 +18,15 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_SUBSCRIBERS_INTERVAL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_HOUR;
@@ -154,6 +160,11 @@ public class ColonyPackageManager implements IColonyPackageManager
 
             sendSchematicsPackets();
         }
+        else
+        {
+            //  Nobody receives the changes, anyone subscribing later gets a full snapshot.
+            colony.getRequestManager().clearDelta();
+        }
 
         isDirty = false;
         colony.getPermissions().clearDirty();
@@ -165,12 +176,21 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        if (!newSubscribers.isEmpty())
+        {
+            broadcastView(buf -> ColonyView.serializeNetworkData(colony, buf, true), buf -> new ColonyViewMessage(colony, buf, true), newSubscribers);
+        }
+
+        if (newSubscribers.containsAll(closeSubscribers))
         {
-            final ByteBuf colonyByteBuf = Unpooled.buffer();
-            ColonyView.serializeNetworkData(colony, colonyByteBuf, !newSubscribers.isEmpty());
-            final Set<EntityPlayerMP> players = isDirty ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, newSubscribers.contains(player)), player));
+            //  Everybody received the snapshot, the journaled changes are included in it.
+            colony.getRequestManager().clearDelta();
+        }
+        else if (isDirty)
+        {
+            //  Serialized after the snapshot for the new subscribers, as this consumes the request system delta.
+            final Set<EntityPlayerMP> players = closeSubscribers.stream().filter(player -> !newSubscribers.contains(player)).collect(Collectors.toSet());
+            broadcastView(buf -> ColonyView.serializeNetworkData(colony, buf, false), buf -> new ColonyViewMessage(colony, buf, false), players);
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -215,6 +235,36 @@ public class ColonyPackageManager implements IColonyPackageManager
         Structures.clearDirty();
     }
 
+    @Override
+    public void broadcastView(
+      @NotNull final Consumer<ByteBuf> serializer,
+      @NotNull final Function<ByteBuf, IMessage> messageFactory,
+      @NotNull final Collection<EntityPlayerMP> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        //  The broadcast owns the only reference to the buffer. Messages are encoded on this thread while sending,
+        //  so one message can be handed to all players and the buffer released right after.
+        final ByteBuf buffer = Unpooled.buffer();
+        try
+        {
+            serializer.accept(buffer);
+            final IMessage message = messageFactory.apply(buffer);
+            for (final EntityPlayerMP player : players)
+            {
+                MineColonies.getNetwork().sendTo(message, player);
+            }
+            NetworkMetrics.record(message.getClass(), buffer.readableBytes(), players.size());
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
     @Override
     public void setDirty()
     {
@@ -0,0 +1,111 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Keeps track of the deliverymen of a colony and of the deliveryman each delivery is queued at, so the delivery resolvers do not have to go
+ * through all citizens of the colony.
+ * Updated when a citizen changes his job and when a deliveryman changes his queue, the assignments are verified on lookup since the queues
+ * are restored separately by the request system.
+ */
+public class DeliverymanRegistry
+{
+    /**
+     * The citizens with a deliveryman job, by citizen id since the data of a citizen changes its hash code on level up or renaming.
+     */
+    private final Map<Integer, ICitizenData> deliverymen = new LinkedHashMap<>();
+
+    /**
+     * The id of the deliveryman each delivery is queued at.
+     */
+    private final Map<IToken<?>, Integer> assignments = new HashMap<>();
+
+    /**
+     * Called when a citizen changes his job.
+     *
+     * @param citizen the citizen.
+     * @param oldJob  the previous job, may be null.
+     * @param newJob  the new job, may be null.
+     */
+    public void onJobChanged(@NotNull final ICitizenData citizen, @Nullable final IJob oldJob, @Nullable final IJob newJob)
+    {
+        if (oldJob instanceof JobDeliveryman && !(newJob instanceof JobDeliveryman))
+        {
+            deliverymen.remove(citizen.getId());
+            assignments.values().removeIf(id -> id == citizen.getId());
+        }
+        else if (newJob instanceof JobDeliveryman)
+        {
+            deliverymen.put(citizen.getId(), citizen);
+        }
+    }
+
+    /**
+     * Called when a delivery was added to the queue of a deliveryman.
+     *
+     * @param token   the token of the delivery.
+     * @param citizen the deliveryman.
+     */
+    public void onTaskAdded(@NotNull final IToken<?> token, @NotNull final ICitizenData citizen)
+    {
+        assignments.put(token, citizen.getId());
+    }
+
+    /**
+     * Called when a delivery was removed from the queue of a deliveryman.
+     *
+     * @param token the token of the delivery.
+     */
+    public void onTaskRemoved(@NotNull final IToken<?> token)
+    {
+        assignments.remove(token);
+    }
+
+    /**
+     * Get the citizens with a deliveryman job.
+     *
+     * @return an unmodifiable view of them.
+     */
+    @NotNull
+    public Collection<ICitizenData> getDeliverymen()
+    {
+        return Collections.unmodifiableCollection(deliverymen.values());
+    }
+
+    /**
+     * Get the deliveryman a delivery is queued at.
+     *
+     * @param token the token of the delivery.
+     * @return the deliveryman or null if it is queued nowhere.
+     */
+    @Nullable
+    public ICitizenData getDeliveryman(@NotNull final IToken<?> token)
+    {
+        final Integer assignedId = assignments.get(token);
+        final ICitizenData assigned = assignedId == null ? null : deliverymen.get(assignedId);
+        if (assigned != null && assigned.getJob() instanceof JobDeliveryman
+              && ((JobDeliveryman) assigned.getJob()).isQueued(token))
+        {
+            return assigned;
+        }
+
+        // Not known yet, for example after loading, or outdated.
+        assignments.remove(token);
+        for (final ICitizenData citizen : deliverymen.values())
+        {
+            if (citizen.getJob() instanceof JobDeliveryman && ((JobDeliveryman) citizen.getJob()).isQueued(token))
+            {
+                assignments.put(token, citizen.getId());
+                return citizen;
+            }
+        }
+        return null;
+    }
+}
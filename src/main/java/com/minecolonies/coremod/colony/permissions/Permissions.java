@@ -85,6 +85,11 @@ public class Permissions implements IPermissions
      */
     private boolean dirty = false;
 
+    /**
+     * Increased on every change that has to be saved.
+     */
+    private int saveGeneration = 0;
+
     /**
      * The name of the owner.
      */
@@ -220,6 +225,7 @@ public class Permissions implements IPermissions
     private void markDirty()
     {
         dirty = true;
+        saveGeneration++;
         if(colony != null)
         {
             colony.markDirty();
@@ -787,6 +793,16 @@ public class Permissions implements IPermissions
         dirty = false;
     }
 
+    /**
+     * Get the dirty generation, which increases on every change that has to be saved.
+     *
+     * @return the generation.
+     */
+    public int getSaveGeneration()
+    {
+        return saveGeneration;
+    }
+
     /**
      * Serializes network data.
      *
@@ -37,6 +37,8 @@ public interface IStandardRequestManager extends IRequestManager
 
     IUpdateHandler getUpdateHandler();
 
+    ISyncHandler getSyncHandler();
+
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
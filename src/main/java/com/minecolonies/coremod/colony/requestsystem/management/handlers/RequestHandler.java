@@ -12,8 +12,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
@@ -34,8 +33,46 @@ public class RequestHandler implements IRequestHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The profiler sections of the resolve attempts per resolver type, created when first used as the colony is not known yet on construction.
+     */
+    private TickProfiler.SectionCache<Class<?>> attemptProfilerSections;
+
+    /**
+     * The profiler sections of the resolving per resolver type.
+     */
+    private TickProfiler.SectionCache<Class<?>> resolveProfilerSections;
+
     public RequestHandler(final IStandardRequestManager manager) {this.manager = manager;}
 
+    /**
+     * Get the profiler sections of the resolve attempts.
+     *
+     * @return the sections per resolver type.
+     */
+    private TickProfiler.SectionCache<Class<?>> getAttemptProfilerSections()
+    {
+        if (attemptProfilerSections == null)
+        {
+            attemptProfilerSections = new TickProfiler.SectionCache<>(manager.getColony(), TickProfiler.Category.RESOLVER, type -> "attempt/" + type.getSimpleName());
+        }
+        return attemptProfilerSections;
+    }
+
+    /**
+     * Get the profiler sections of the resolving.
+     *
+     * @return the sections per resolver type.
+     */
+    private TickProfiler.SectionCache<Class<?>> getResolveProfilerSections()
+    {
+        if (resolveProfilerSections == null)
+        {
+            resolveProfilerSections = new TickProfiler.SectionCache<>(manager.getColony(), TickProfiler.Category.RESOLVER, type -> "resolve/" + type.getSimpleName());
+        }
+        return resolveProfilerSections;
+    }
+
     @Override
     public IRequestManager getManager()
     {
@@ -71,6 +108,7 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Registering request: " + request);
 
         manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getSyncHandler().onRequestChanged(request.getId());
     }
 
     /**
@@ -133,24 +171,9 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Starting resolver assignment search for request: " + request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
+        manager.getSyncHandler().onRequestChanged(request.getId());
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        final IRequestResolver<?>[] resolvers = manager.getResolverHandler().getResolversForRequestType(request.getType());
 
         for (final IRequestResolver<?> resolver : resolvers)
         {
@@ -166,7 +189,9 @@ public class RequestHandler implements IRequestHandler
                 continue;
             }
 
+            final long start = TickProfiler.start();
             @Nullable final List<IToken<?>> attemptResult = resolver.attemptResolveRequest(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+            TickProfiler.stop(getAttemptProfilerSections().get(resolver.getClass()), start);
 
             //Skip if attempt failed (aka attemptResult == null)
             if (attemptResult == null)
@@ -188,6 +213,7 @@ public class RequestHandler implements IRequestHandler
 
                 childRequest.setParent(request.getId());
                 request.addChild(childRequest.getId());
+                manager.getSyncHandler().onRequestChanged(childRequestToken);
 
                 if (!isAssigned(childRequestToken))
                 {
@@ -241,6 +267,7 @@ public class RequestHandler implements IRequestHandler
         }
 
         currentlyAssignedResolver.onAssignedRequestCancelled(new WrappedStaticStateRequestManager(manager), request);
+        manager.getSyncHandler().onRequestChanged(request.getId());
 
         manager.updateRequestState(request.getId(), RequestState.REPORTED);
         IToken<?> newAssignedResolverId = assignRequest(request, resolverTokenBlackList);
@@ -270,12 +297,14 @@ public class RequestHandler implements IRequestHandler
         final List<IRequest<?>> followupRequests = resolver.getFollowupRequestForCompletion(manager, request);
 
         request.setState(manager, RequestState.FOLLOWUP_IN_PROGRESS);
+        manager.getSyncHandler().onRequestChanged(token);
 
         //Assign the followup to the parent as a child so that processing is still halted.
         if (followupRequests != null && !followupRequests.isEmpty())
         {
             followupRequests.forEach(followupRequest -> request.addChild(followupRequest.getId()));
             followupRequests.forEach(followupRequest -> followupRequest.setParent(request.getId()));
+            followupRequests.forEach(followupRequest -> manager.getSyncHandler().onRequestChanged(followupRequest.getId()));
         }
 
         //Assign the followup request if need be
@@ -316,6 +345,7 @@ public class RequestHandler implements IRequestHandler
             parentRequest.removeChild(request.getId());
 
             request.setParent(null);
+            manager.getSyncHandler().onRequestChanged(parentRequest.getId());
 
             if (!parentRequest.hasChildren())
             {
@@ -348,6 +378,7 @@ public class RequestHandler implements IRequestHandler
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
             manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getSyncHandler().onRequestChanged(token);
             return;
         }
 
@@ -445,9 +476,11 @@ public class RequestHandler implements IRequestHandler
         if (request.hasParent())
         {
             getRequest(request.getParent()).removeChild(request.getId());
+            manager.getSyncHandler().onRequestChanged(request.getParent());
         }
         request.setParent(null);
         request.setState(manager, RequestState.CANCELLED);
+        manager.getSyncHandler().onRequestChanged(request.getId());
 
         resolver.onAssignedRequestCancelled(new WrappedStaticStateRequestManager(manager), request);
     }
@@ -482,7 +515,10 @@ public class RequestHandler implements IRequestHandler
         final IRequestResolver resolver = manager.getResolverHandler().getResolverForRequest(request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+        manager.getSyncHandler().onRequestChanged(request.getId());
+        final long start = TickProfiler.start();
         resolver.resolveRequest(manager, request);
+        TickProfiler.stop(getResolveProfilerSections().get(resolver.getClass()), start);
     }
 
     /**
@@ -510,6 +546,7 @@ public class RequestHandler implements IRequestHandler
         }
 
         manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getSyncHandler().onRequestChanged(token);
     }
 
     /**
@@ -28,6 +28,11 @@ public class ResolverHandler implements IResolverHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * Cache of the resolvers that can handle a given request type, sorted in the order they should be tried in.
+     */
+    private final Map<TypeToken<?>, IRequestResolver<?>[]> resolverDispatchCache = new HashMap<>();
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -99,6 +104,8 @@ public class ResolverHandler implements IResolverHandler
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
 
+        invalidateResolverCache();
+        manager.getSyncHandler().onStructureChanged();
         return resolver.getId();
     }
 
@@ -230,6 +237,9 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+
+        invalidateResolverCache();
+        manager.getSyncHandler().onStructureChanged();
     }
 
     /**
@@ -290,6 +300,7 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).add(request.getId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+        manager.getSyncHandler().onRequestChanged(request.getId());
     }
 
     /**
@@ -324,6 +335,8 @@ public class ResolverHandler implements IResolverHandler
         {
             manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
         }
+
+        manager.getSyncHandler().onRequestChanged(request.getId());
     }
 
     /**
@@ -373,4 +386,60 @@ public class ResolverHandler implements IResolverHandler
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().values().forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
     }
+
+    /**
+     * Method used to get all resolvers that can handle requests of the given type, in the order in which they should be tried.
+     * The result is cached until a resolver is registered or removed.
+     *
+     * @param requestType The type of the request.
+     * @return The resolvers sorted by descending priority, and then by how specific their request type is.
+     */
+    @Override
+    public IRequestResolver<?>[] getResolversForRequestType(final TypeToken<?> requestType)
+    {
+        final IRequestResolver<?>[] cachedResolvers = resolverDispatchCache.get(requestType);
+        if (cachedResolvers != null)
+        {
+            return cachedResolvers;
+        }
+
+        final IRequestResolver<?>[] resolvers = computeResolversForRequestType(requestType);
+        resolverDispatchCache.put(requestType, resolvers);
+        return resolvers;
+    }
+
+    @Override
+    public void invalidateResolverCache()
+    {
+        resolverDispatchCache.clear();
+    }
+
+    /**
+     * Collects the resolvers registered for any of the super types of the given request type,
+     * ordered by descending priority and then by the position of their request type in the type hierarchy.
+     *
+     * @param requestType The type of the request.
+     * @return The sorted resolvers.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private IRequestResolver<?>[] computeResolversForRequestType(final TypeToken<?> requestType)
+    {
+        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(requestType);
+        requestTypes.remove(TypeConstants.OBJECT);
+
+        final List<TypeToken> typeIndexList = new ArrayList<>(requestTypes);
+
+        return requestTypes.stream()
+                 .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
+                 .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                    .getAssignments()
+                                    .get(type)
+                                    .stream()
+                                    .map(this::getResolver))
+                 .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+                 .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                           .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                 .distinct()
+                 .toArray(IRequestResolver<?>[]::new);
+    }
 }
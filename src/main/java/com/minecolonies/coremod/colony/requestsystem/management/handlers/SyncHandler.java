@@ -0,0 +1,209 @@
+package com.minecolonies.coremod.colony.requestsystem.management.handlers;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.resolvers.StandardPlayerRequestResolver;
+import com.minecolonies.coremod.colony.requestsystem.resolvers.StandardRetryingRequestResolver;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Class used to journal the changes made to the request system, so that clients can be updated with a delta instead of a full snapshot.
+ * Deliveries added to a request outside of the manager are reported through {@link IRequestManager#onRequestChanged(IToken)}, the result of a
+ * request is only set when it is deserialized and therefore never journaled.
+ */
+public class SyncHandler implements ISyncHandler
+{
+    ////---------------------------NBTTags-------------------------\\\\
+    private static final String NBT_UPDATED  = "Updated";
+    private static final String NBT_REMOVED  = "Removed";
+    private static final String NBT_REQUEST  = "Request";
+    private static final String NBT_RESOLVER = "Resolver";
+    ////---------------------------NBTTags-------------------------\\\\
+
+    /**
+     * Amount of changed requests after which a full snapshot is cheaper than a delta.
+     */
+    private static final int MAX_JOURNAL_SIZE = 256;
+
+    private final IStandardRequestManager manager;
+
+    /**
+     * The tokens of the requests that changed since the last network update, in order of their first change.
+     */
+    private final Set<IToken<?>> changedRequests = new LinkedHashSet<>();
+
+    /**
+     * Indicates that the next network update has to be a full snapshot.
+     */
+    private boolean fullSyncRequired = true;
+
+    public SyncHandler(final IStandardRequestManager manager) {this.manager = manager;}
+
+    @Override
+    public IRequestManager getManager()
+    {
+        return manager;
+    }
+
+    @Override
+    public void onRequestChanged(final IToken<?> token)
+    {
+        if (fullSyncRequired)
+        {
+            return;
+        }
+
+        changedRequests.add(token);
+        if (changedRequests.size() > MAX_JOURNAL_SIZE)
+        {
+            onStructureChanged();
+        }
+    }
+
+    @Override
+    public void onStructureChanged()
+    {
+        fullSyncRequired = true;
+        changedRequests.clear();
+    }
+
+    @Override
+    public boolean canSendDelta()
+    {
+        return !fullSyncRequired;
+    }
+
+    @Override
+    public NBTTagCompound serializeDelta()
+    {
+        final NBTTagList updated = new NBTTagList();
+        final NBTTagList removed = new NBTTagList();
+
+        for (final IToken<?> token : changedRequests)
+        {
+            final IRequest<?> request = manager.getRequestIdentitiesDataStore().getIdentities().get(token);
+            if (request == null)
+            {
+                removed.appendTag(manager.getFactoryController().serialize(token));
+                continue;
+            }
+
+            final NBTTagCompound requestCompound = new NBTTagCompound();
+            requestCompound.setTag(NBT_REQUEST, manager.getFactoryController().serialize(request));
+
+            final IToken<?> resolverToken = manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token);
+            if (resolverToken != null)
+            {
+                requestCompound.setTag(NBT_RESOLVER, manager.getFactoryController().serialize(resolverToken));
+            }
+
+            updated.appendTag(requestCompound);
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(NBT_UPDATED, updated);
+        compound.setTag(NBT_REMOVED, removed);
+
+        clear();
+        return compound;
+    }
+
+    @Override
+    public void deserializeDelta(final NBTTagCompound nbt)
+    {
+        final Set<IToken<?>> playerAssignedRequests = new HashSet<>(manager.getPlayerResolver().getAllAssignedRequests());
+        final Map<IToken<?>, Integer> retryingAssignedRequests = getRetryingAssignedRequests();
+
+        NBTUtils.streamCompound(nbt.getTagList(NBT_REMOVED, Constants.NBT.TAG_COMPOUND)).forEach(compound -> {
+            final IToken<?> token = manager.getFactoryController().deserialize(compound);
+
+            removeAssignment(token);
+            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            playerAssignedRequests.remove(token);
+            retryingAssignedRequests.remove(token);
+        });
+
+        NBTUtils.streamCompound(nbt.getTagList(NBT_UPDATED, Constants.NBT.TAG_COMPOUND)).forEach(compound -> {
+            final IRequest<?> request = manager.getFactoryController().deserialize(compound.getCompoundTag(NBT_REQUEST));
+            final IToken<?> token = request.getId();
+
+            removeAssignment(token);
+            manager.getRequestIdentitiesDataStore().getIdentities().forcePut(token, request);
+            playerAssignedRequests.remove(token);
+            retryingAssignedRequests.remove(token);
+
+            if (!compound.hasKey(NBT_RESOLVER))
+            {
+                return;
+            }
+
+            final IToken<?> resolverToken = manager.getFactoryController().deserialize(compound.getCompoundTag(NBT_RESOLVER));
+            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().computeIfAbsent(resolverToken, t -> new HashSet<>()).add(token);
+
+            if (resolverToken.equals(manager.getPlayerResolver().getId()))
+            {
+                playerAssignedRequests.add(token);
+            }
+            else if (resolverToken.equals(manager.getRetryingRequestResolver().getId()))
+            {
+                retryingAssignedRequests.putIfAbsent(token, 0);
+            }
+        });
+
+        if (manager.getPlayerResolver() instanceof StandardPlayerRequestResolver)
+        {
+            ((StandardPlayerRequestResolver) manager.getPlayerResolver()).setAllAssignedRequests(playerAssignedRequests);
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        changedRequests.clear();
+        fullSyncRequired = false;
+    }
+
+    /**
+     * Removes the given request from the resolver it is currently assigned to, if any.
+     *
+     * @param token The token of the request.
+     */
+    private void removeAssignment(final IToken<?> token)
+    {
+        @Nullable final IToken<?> resolverToken = manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token);
+        if (resolverToken == null)
+        {
+            return;
+        }
+
+        final Collection<IToken<?>> assignedRequests = manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolverToken);
+        assignedRequests.remove(token);
+        if (assignedRequests.isEmpty())
+        {
+            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolverToken);
+        }
+    }
+
+    /**
+     * Gets the live assignment map of the retrying resolver, or a detached one when the resolver does not expose it.
+     *
+     * @return The map of requests assigned to the retrying resolver.
+     */
+    private Map<IToken<?>, Integer> getRetryingAssignedRequests()
+    {
+        if (manager.getRetryingRequestResolver() instanceof StandardRetryingRequestResolver)
+        {
+            return ((StandardRetryingRequestResolver) manager.getRetryingRequestResolver()).getAssignedRequests();
+        }
+
+        return new HashMap<>();
+    }
+}
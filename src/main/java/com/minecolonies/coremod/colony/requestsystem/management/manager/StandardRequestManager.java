@@ -16,6 +16,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestR
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
@@ -57,6 +58,11 @@ public class StandardRequestManager implements IStandardRequestManager
     private static final String NBT_VERSION = "Version";
     ////---------------------------NBTTags-------------------------\\\\
 
+    /**
+     * Name of the profiler section of the manager updates.
+     */
+    private static final String UPDATE_PROFILER_SECTION = "update";
+
     private IToken<?> requestIdentitiesDataStoreId;
 
     private IToken<?> requestResolverIdentitiesDataStoreId;
@@ -78,6 +84,11 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     private boolean dirty = true;
 
+    /**
+     * Increased every time the manager is marked dirty.
+     */
+    private int saveGeneration = 0;
+
     /**
      * Colony of the manager.
      */
@@ -102,11 +113,21 @@ public class StandardRequestManager implements IStandardRequestManager
     @NotNull
     private final IProviderHandler providerHandler = new ProviderHandler(this);
 
+    @NotNull
+    private final ISyncHandler syncHandler = new SyncHandler(this);
+
     private int version = -1;
 
+    /**
+     * The profiler sections of the operations of the manager.
+     */
+    @NotNull
+    private final TickProfiler.SectionCache<String> profilerSections;
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
+        this.profilerSections = new TickProfiler.SectionCache<>(colony, TickProfiler.Category.REQUESTS, name -> name);
         this.logger = LogManager.getLogger(String.format("%s.requestsystem.%s", Constants.MOD_ID, colony.getID()));
         reset();
     }
@@ -205,10 +226,17 @@ public class StandardRequestManager implements IStandardRequestManager
 
         if (this.isDirty())
         {
+            saveGeneration++;
             colony.markDirty();
         }
     }
 
+    @Override
+    public int getSaveGeneration()
+    {
+        return saveGeneration;
+    }
+
     /**
      * Method used to assign a request to a resolver.
      *
@@ -289,6 +317,7 @@ public class StandardRequestManager implements IStandardRequestManager
         getLogger().debug("Updating request state from:" + token + ". With original state: " + request.getState() + " to : " + state);
 
         request.setState(new WrappedStaticStateRequestManager(this), state);
+        getSyncHandler().onRequestChanged(token);
         markDirty();
 
         switch (request.getState())
@@ -396,6 +425,7 @@ public class StandardRequestManager implements IStandardRequestManager
 
         version = -1;
         getUpdateHandler().handleUpdate();
+        getSyncHandler().onStructureChanged();
     }
 
     /**
@@ -472,6 +502,38 @@ public class StandardRequestManager implements IStandardRequestManager
           c -> retryingRequestResolverId = getFactoryController().deserialize(c));
 
         updateIfRequired();
+        getResolverHandler().invalidateResolverCache();
+        getSyncHandler().onStructureChanged();
+    }
+
+    @Override
+    public boolean canSendDelta()
+    {
+        return getSyncHandler().canSendDelta();
+    }
+
+    @Override
+    public NBTTagCompound serializeDeltaNBT()
+    {
+        return getSyncHandler().serializeDelta();
+    }
+
+    @Override
+    public void deserializeDeltaNBT(final NBTTagCompound nbt)
+    {
+        getSyncHandler().deserializeDelta(nbt);
+    }
+
+    @Override
+    public void clearDelta()
+    {
+        getSyncHandler().clear();
+    }
+
+    @Override
+    public void onRequestChanged(@NotNull final IToken<?> token)
+    {
+        getSyncHandler().onRequestChanged(token);
     }
 
     private <T> void executeDeserializationStepOrMarkForUpdate(@NotNull final NBTTagCompound nbt, @NotNull final String key, @NotNull final BiFunction<NBTTagCompound, String, T> extractor, @NotNull final Consumer<T> valueConsumer)
@@ -510,8 +572,10 @@ public class StandardRequestManager implements IStandardRequestManager
     @Override
     public void update()
     {
+        final long start = TickProfiler.start();
         this.getRetryingRequestResolver().updateManager(this);
         this.getRetryingRequestResolver().update();
+        TickProfiler.stop(profilerSections.get(UPDATE_PROFILER_SECTION), start);
     }
 
     @NotNull
@@ -579,6 +643,12 @@ public class StandardRequestManager implements IStandardRequestManager
         return updateHandler;
     }
 
+    @Override
+    public ISyncHandler getSyncHandler()
+    {
+        return syncHandler;
+    }
+
     private void updateIfRequired()
     {
         if (version < updateHandler.getCurrentVersion())
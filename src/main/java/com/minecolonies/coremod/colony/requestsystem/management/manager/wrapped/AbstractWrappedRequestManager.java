@@ -256,12 +256,48 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         wrappedManager.setDirty(isDirty);
     }
 
+    @Override
+    public int getSaveGeneration()
+    {
+        return wrappedManager.getSaveGeneration();
+    }
+
     @Override
     public void markDirty()
     {
         wrappedManager.markDirty();
     }
 
+    @Override
+    public boolean canSendDelta()
+    {
+        return wrappedManager.canSendDelta();
+    }
+
+    @Override
+    public NBTTagCompound serializeDeltaNBT()
+    {
+        return wrappedManager.serializeDeltaNBT();
+    }
+
+    @Override
+    public void deserializeDeltaNBT(final NBTTagCompound nbt)
+    {
+        wrappedManager.deserializeDeltaNBT(nbt);
+    }
+
+    @Override
+    public void clearDelta()
+    {
+        wrappedManager.clearDelta();
+    }
+
+    @Override
+    public void onRequestChanged(@NotNull final IToken<?> token)
+    {
+        wrappedManager.onRequestChanged(token);
+    }
+
     @Override
     public void onColonyUpdate(@NotNull final Predicate<IRequest> shouldTriggerReassign)
     {
@@ -48,14 +48,14 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
         }
 
         final Colony colony = (Colony) manager.getColony();
-        final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
+        final ICitizenData freeDeliveryMan = colony.getDeliverymanRegistry().getDeliverymen()
                                               .stream()
+                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
                                               .filter(citizenData -> citizenData.getCitizenEntity()
                                                                        .map(entityCitizen -> requestToCheck.getRequest()
                                                                                                .getTarget()
                                                                                                .isReachableFromLocation(entityCitizen.getLocation()))
                                                                        .orElse(false))
-                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
                                               .findFirst()
                                               .orElse(null);
 
@@ -73,17 +73,17 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
 
         final Colony colony = (Colony) manager.getColony();
         //We can do an instant get here, since we are already filtering on anything that has no entity.
-        final ICitizenData freeDeliveryMan = colony.getCitizenManager()
-                                              .getCitizens()
+        final ICitizenData freeDeliveryMan = colony.getDeliverymanRegistry()
+                                              .getDeliverymen()
                                               .stream()
+                                              .filter(c -> c.getJob() instanceof JobDeliveryman)
+                                              .filter(c -> ((JobDeliveryman) c.getJob()).isActive())
                                               .filter(citizenData -> citizenData.getCitizenEntity()
                                                                        .map(entityCitizen -> request.getRequest()
                                                                                                .getTarget()
                                                                                                .isReachableFromLocation(entityCitizen.getLocation()))
                                                                        .orElse(false))
-                                               .filter(c -> c.getJob() instanceof JobDeliveryman)
-                                               .filter(c -> ((JobDeliveryman) c.getJob()).isActive())
-                                               .min(Comparator.comparing((ICitizenData c) -> ((JobDeliveryman) c.getJob()).getTaskQueue().size())
+                                               .min(Comparator.comparing((ICitizenData c) -> ((JobDeliveryman) c.getJob()).getTaskQueueSize())
                                                      .thenComparing(Comparator.comparing(c -> {
                                                          BlockPos targetPos = request.getRequest().getTarget().getInDimensionLocation();
                                                          //We can do an instant get here, since we are already filtering on anything that has no entity.
@@ -131,11 +131,7 @@ public class DeliveryRequestResolver extends AbstractRequestResolver<Delivery>
         if (!manager.getColony().getWorld().isRemote)
         {
             final Colony colony = (Colony) manager.getColony();
-            final ICitizenData freeDeliveryMan = colony.getCitizenManager().getCitizens()
-                                                   .stream()
-                                                   .filter(c -> c.getJob() instanceof JobDeliveryman && ((JobDeliveryman) c.getJob()).getTaskQueue().contains(request.getId()))
-                                                   .findFirst()
-                                                   .orElse(null);
+            final ICitizenData freeDeliveryMan = colony.getDeliverymanRegistry().getDeliveryman(request.getId());
 
             if (freeDeliveryMan == null)
             {
@@ -112,10 +112,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
         final int totalRequested = request.getRequest().getCount();
         final int totalAvailable = wareHouses.stream()
-                                     .map(wareHouse -> wareHouse.getMatchingItemStacksInWarehouse(itemStack -> request.getRequest().matches(itemStack)))
-                                     .filter(itemStacks -> !itemStacks.isEmpty())
-                                     .flatMap(List::stream)
-                                     .mapToInt(ItemStack::getCount)
+                                     .mapToInt(wareHouse -> wareHouse.getCountInWarehouse(itemStack -> request.getRequest().matches(itemStack)))
                                      .sum();
 
         if (totalAvailable >= totalRequested)
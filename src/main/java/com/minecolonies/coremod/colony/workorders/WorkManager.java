@@ -38,6 +38,10 @@ public class WorkManager implements IWorkManager
      * Checks if there has been changes.
      */
     private              boolean                  dirty           = false;
+    /**
+     * Increased on every change that has to be saved.
+     */
+    private              int                      saveGeneration  = 0;
 
     /**
      * Constructor, saves reference to the colony.
@@ -72,6 +76,7 @@ public class WorkManager implements IWorkManager
         if (workOrder != null)
         {
             workOrders.remove(orderId);
+            saveGeneration++;
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
             colony.markDirty();
@@ -166,7 +171,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void clearWorkForCitizen(@NotNull final ICitizenData citizen)
     {
-        dirty = true;
+        setDirty(true);
         workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(IWorkOrder::clearClaimedBy);
     }
 
@@ -230,7 +235,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void addWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
     {
-        dirty = true;
+        setDirty(true);
 
         if (order instanceof WorkOrderBuildDecoration)
         {
@@ -289,11 +294,11 @@ public class WorkManager implements IWorkManager
             if (!o.isValid(this.colony))
             {
                 iter.remove();
-                dirty = true;
+                setDirty(true);
             }
             else if (o.hasChanged())
             {
-                dirty = true;
+                setDirty(true);
                 o.resetChange();
             }
         }
@@ -334,6 +339,16 @@ public class WorkManager implements IWorkManager
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (dirty)
+        {
+            saveGeneration++;
+        }
+    }
+
+    @Override
+    public int getSaveGeneration()
+    {
+        return saveGeneration;
     }
 
     @Override
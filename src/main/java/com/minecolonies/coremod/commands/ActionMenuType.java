@@ -42,6 +42,16 @@ public enum ActionMenuType implements IMenuType
       new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.REQUIRED)
 
     )),
+    PROFILE_COLONY(new ActionMenu(
+      "Profile",
+      "profile",
+      ForgePermissionNodes.PROFILE_COLONY,
+      ColonyProfileCommand.class,
+      new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("enable", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("dump", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+    )),
     RAID_ALL_TONIGHT(new ActionMenu(
             "RaidAllTonight",
             "raid-tonight",
@@ -30,7 +30,8 @@ public enum NavigationMenuType implements IMenuType
         ActionMenuType.DO_RAID_NOW,
         ActionMenuType.DO_RAID_TONIGHT,
         ActionMenuType.CLAIM,
-        ActionMenuType.LOAD_BACKUP
+        ActionMenuType.LOAD_BACKUP,
+        ActionMenuType.PROFILE_COLONY
     )),
 
     REQUEST_SYSTEM(new NavigationMenu("rs",
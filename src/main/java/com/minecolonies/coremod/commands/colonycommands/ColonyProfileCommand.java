@@ -0,0 +1,257 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.TickProfiler;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.ai.basic.AITickRateController;
+import com.minecolonies.coremod.network.NetworkMetrics;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Shows where the colonies spend their tick time and dumps the measurements to a file.
+ */
+public class ColonyProfileCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final String DESC = "profile";
+
+    /**
+     * Amount of lines shown per list.
+     */
+    private static final int MAX_LINES = 10;
+
+    /**
+     * Folder in the minecolonies folder the dumps are written to.
+     */
+    private static final String PROFILE_FOLDER = "profiles";
+
+    /**
+     * File name of the dumps, without extension.
+     */
+    private static final String PROFILE_FILENAME = "profile-%s";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ColonyProfileCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyProfileCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "[ColonyId] [enable: true|false] [reset: true] [dump: true]";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        /*
+         * Do nothing no compat required.
+         */
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        if (!isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NOT_PERMITTED));
+            return;
+        }
+
+        final Boolean enable = actionMenuState.getBooleanForArgument("enable");
+        if (enable != null)
+        {
+            TickProfiler.setEnabled(enable);
+        }
+
+        if (actionMenuState.getBooleanValueForArgument("reset", false))
+        {
+            TickProfiler.reset();
+            NetworkMetrics.reset();
+            sender.sendMessage(new TextComponentString("Profiler reset."));
+        }
+
+        if (!TickProfiler.isEnabled())
+        {
+            sender.sendMessage(new TextComponentString("Profiling is disabled, enable it with: enable: true"));
+            return;
+        }
+
+        final IColony colony = actionMenuState.getColonyForArgument("colony");
+        if (colony == null)
+        {
+            sendColonies(sender);
+        }
+        else
+        {
+            sendColony(sender, colony);
+        }
+
+        if (actionMenuState.getBooleanValueForArgument("dump", false))
+        {
+            dump(sender);
+        }
+    }
+
+    /**
+     * Send the colonies using the most time per tick.
+     *
+     * @param sender the sender of the command.
+     */
+    private static void sendColonies(@NotNull final ICommandSender sender)
+    {
+        final List<IColony> colonies = new ArrayList<>(IColonyManager.getInstance().getAllColonies());
+        colonies.sort(Comparator.comparingDouble(TickProfiler::getMicrosPerTick).reversed());
+
+        sender.sendMessage(new TextComponentString(String.format(Locale.US, "Server: %.1f ms/tick, distant citizen AI slowed down %dx",
+          AITickRateController.getMspt(),
+          AITickRateController.getLoadScale())));
+        sender.sendMessage(new TextComponentString("Colonies by time per tick (deferred units: " + ColonyTickScheduler.getDeferredUnits() + "):"));
+        for (final IColony colony : colonies.subList(0, Math.min(MAX_LINES, colonies.size())))
+        {
+            sender.sendMessage(new TextComponentString(String.format(Locale.US, "#%d %s: %.1f us/tick, %d units pending",
+              colony.getID(),
+              colony.getName(),
+              TickProfiler.getMicrosPerTick(colony),
+              ColonyTickScheduler.getPendingUnits(colony))));
+        }
+
+        sender.sendMessage(new TextComponentString("Pathfinding:"));
+        for (final TickProfiler.Section section : TickProfiler.getSections())
+        {
+            if (section.getCategory() == TickProfiler.Category.PATHFINDING)
+            {
+                sendSection(sender, section);
+            }
+        }
+
+        sender.sendMessage(new TextComponentString("Network:"));
+        for (final Class<?> type : NetworkMetrics.getMessageTypes())
+        {
+            sender.sendMessage(new TextComponentString(String.format(Locale.US, "  %s: %.0f bytes/s, %d bytes total",
+              type.getSimpleName(),
+              NetworkMetrics.getBytesPerSecond(type),
+              NetworkMetrics.getTotalBytes(type))));
+        }
+    }
+
+    /**
+     * Send the most expensive sections of a colony.
+     *
+     * @param sender the sender of the command.
+     * @param colony the colony.
+     */
+    private static void sendColony(@NotNull final ICommandSender sender, @NotNull final IColony colony)
+    {
+        sender.sendMessage(new TextComponentString(String.format(Locale.US, "#%d %s: %.1f us/tick, scheduled work %d us/tick, %d units pending",
+          colony.getID(),
+          colony.getName(),
+          TickProfiler.getMicrosPerTick(colony),
+          ColonyTickScheduler.getAverageMicrosPerTick(colony),
+          ColonyTickScheduler.getPendingUnits(colony))));
+
+        final List<TickProfiler.Section> sections = TickProfiler.getSections(colony);
+        for (final TickProfiler.Section section : sections.subList(0, Math.min(MAX_LINES, sections.size())))
+        {
+            sendSection(sender, section);
+        }
+    }
+
+    /**
+     * Send a single section.
+     *
+     * @param sender  the sender of the command.
+     * @param section the section.
+     */
+    private static void sendSection(@NotNull final ICommandSender sender, @NotNull final TickProfiler.Section section)
+    {
+        sender.sendMessage(new TextComponentString(String.format(Locale.US, "  %s %s: %.1f us/tick, %d samples, max %.1f us",
+          section.getCategory(),
+          section.getName(),
+          section.getMicrosPerTick(),
+          section.getCount(),
+          section.getMaxNanos() / 1000D)));
+    }
+
+    /**
+     * Write all sections to a CSV and a JSON file in the minecolonies folder of the world.
+     *
+     * @param sender the sender of the command.
+     */
+    private static void dump(@NotNull final ICommandSender sender)
+    {
+        final File folder = new File(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH), PROFILE_FOLDER);
+        if (!folder.exists() && !folder.mkdirs())
+        {
+            sender.sendMessage(new TextComponentString("Could not create " + folder));
+            return;
+        }
+
+        final String fileName = String.format(PROFILE_FILENAME, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()));
+        final File csvFile = new File(folder, fileName + ".csv");
+        final File jsonFile = new File(folder, fileName + ".json");
+        try (Writer csv = new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8);
+             Writer json = new OutputStreamWriter(new FileOutputStream(jsonFile), StandardCharsets.UTF_8))
+        {
+            TickProfiler.writeCsv(csv);
+            TickProfiler.writeJson(json);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Could not write the profile", e);
+            sender.sendMessage(new TextComponentString("Could not write the profile: " + e.getMessage()));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentString("Profile written to " + csvFile + " and " + jsonFile));
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+      @NotNull final MinecraftServer server,
+      @NotNull final ICommandSender sender,
+      @NotNull final String[] args,
+      @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -62,14 +62,8 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
         {
             server.addScheduledTask(() ->
             {
-                if (BackUpHelper.backupColonyData())
-                {
-                    sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
-                }
-                else
-                {
-                    sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
-                }
+                BackUpHelper.backupColonyDataAsync().thenAccept(success -> server.addScheduledTask(
+                  () -> sender.sendMessage(new TextComponentString(success ? BACKUP_SUCCESS_MESSAGE : BACKUP_FAILURE_MESSAGE))));
             });
         }
         else
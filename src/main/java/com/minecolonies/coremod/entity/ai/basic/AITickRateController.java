@@ -0,0 +1,186 @@
+package com.minecolonies.coremod.entity.ai.basic;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides at which rate the AI of a citizen is updated, the level of detail of the AI.
+ * Citizens close to a player run at the configured rate, citizens further away or in colonies without players close by run slower.
+ * Delays of the AI are counted down by the tick rate, but the transitions with an own tick rate are not compensated and only run less often,
+ * so the combined factor is capped at {@link #MAX_FACTOR} to keep those from falling too far behind.
+ * On top of that the rate of distant citizens is scaled with the measured milliseconds per server tick, within the same cap.
+ */
+public final class AITickRateController
+{
+    /**
+     * Amount of server ticks between two measurements of the server load.
+     */
+    private static final int MEASURE_INTERVAL = 20;
+
+    /**
+     * Maximum factor the rate of a citizen is reduced by, distance and server load together.
+     */
+    private static final int MAX_FACTOR = 4;
+
+    /**
+     * Maximum factor the server load scales the rate of distant citizens with, more would exceed the cap for all of them.
+     */
+    private static final int MAX_LOAD_SCALE = MAX_FACTOR / 2;
+
+    /**
+     * Part of the target milliseconds per tick below which the load scale is reduced again.
+     */
+    private static final double RELAX_FACTOR = 0.75D;
+
+    /**
+     * Factor for citizens further than the full rate distance.
+     */
+    private static final int NEAR_FACTOR = 2;
+
+    /**
+     * Factor for citizens further than twice the full rate distance, without any player in their world or in colonies which are not active.
+     */
+    private static final int FAR_FACTOR = 4;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1.0E6D;
+
+    /**
+     * The server tick counter.
+     */
+    private static long currentTick = 0;
+
+    /**
+     * The factor the rate of distant citizens is scaled with because of the server load.
+     */
+    private static int loadScale = 1;
+
+    /**
+     * The last measured milliseconds per server tick.
+     */
+    private static double mspt = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private AITickRateController()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Called at the start of every server tick, measures the server load once a second and adapts the load scale.
+     *
+     * @param server the server.
+     */
+    public static void onServerTick(@NotNull final MinecraftServer server)
+    {
+        currentTick++;
+        if (currentTick % MEASURE_INTERVAL != 0)
+        {
+            return;
+        }
+
+        long total = 0;
+        for (final long tickTime : server.tickTimeArray)
+        {
+            total += tickTime;
+        }
+        mspt = total / (double) server.tickTimeArray.length / NANOS_PER_MILLI;
+
+        // Double or halve, with a gap in between so the scale does not flip every second.
+        if (mspt > Configurations.gameplay.aiTargetMspt)
+        {
+            loadScale = Math.min(MAX_LOAD_SCALE, loadScale * 2);
+        }
+        else if (mspt < Configurations.gameplay.aiTargetMspt * RELAX_FACTOR)
+        {
+            loadScale = Math.max(1, loadScale / 2);
+        }
+    }
+
+    /**
+     * Get the rate the AI of a citizen should be updated at.
+     *
+     * @param worker   the citizen.
+     * @param baseRate the configured rate.
+     * @return the rate, at least the configured one.
+     */
+    public static int getTickRate(@NotNull final AbstractEntityCitizen worker, final int baseRate)
+    {
+        if (!Configurations.gameplay.adaptiveAITickRate || worker.getRevengeTarget() != null)
+        {
+            return baseRate;
+        }
+
+        final IColony colony = worker.getCitizenColonyHandler().getColony();
+        if (colony instanceof Colony && ((Colony) colony).getState() != ColonyState.ACTIVE)
+        {
+            return baseRate * scale(FAR_FACTOR);
+        }
+
+        final double fullRateDistance = Configurations.gameplay.aiFullRateDistance;
+        final EntityPlayer player = worker.world.getClosestPlayerToEntity(worker, fullRateDistance * 2);
+        if (player == null)
+        {
+            return baseRate * scale(FAR_FACTOR);
+        }
+
+        if (player.getDistanceSq(worker) > fullRateDistance * fullRateDistance)
+        {
+            return baseRate * scale(NEAR_FACTOR);
+        }
+        return baseRate;
+    }
+
+    /**
+     * Scale a distance factor with the server load, within the cap.
+     *
+     * @param factor the distance factor.
+     * @return the combined factor.
+     */
+    private static int scale(final int factor)
+    {
+        return Math.min(MAX_FACTOR, factor * loadScale);
+    }
+
+    /**
+     * Get the last measured milliseconds per server tick.
+     *
+     * @return the milliseconds.
+     */
+    public static double getMspt()
+    {
+        return mspt;
+    }
+
+    /**
+     * Get the factor the rate of distant citizens is currently scaled with because of the server load.
+     *
+     * @return the factor.
+     */
+    public static int getLoadScale()
+    {
+        return loadScale;
+    }
+
+    /**
+     * Reset the measurements, for example when the server stops.
+     */
+    public static void reset()
+    {
+        currentTick = 0;
+        loadScale = 1;
+        mspt = 0;
+    }
+}
@@ -12,6 +12,7 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRate
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.api.util.TickProfiler;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -29,6 +30,11 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
 {
 
     private static final int                   MUTEX_MASK = 3;
+
+    /**
+     * Amount of updates after which the tick rate of the AI is checked again.
+     */
+    private static final int TICK_RATE_CHECK_INTERVAL = 20;
     @NotNull
     protected final      J                     job;
     @NotNull
@@ -41,6 +47,11 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
     @NotNull
     private final ITickRateStateMachine<IAIState> stateMachine;
 
+    /**
+     * Counts the updates until the tick rate is checked again.
+     */
+    private int tickRateCheckCounter;
+
     /**
      * Sets up some important skeleton stuff for every ai.
      *
@@ -61,6 +72,9 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
         this.world = CompatibilityUtils.getWorldFromCitizen(this.worker);
         stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, this::onException);
         stateMachine.setTickRate(Configurations.gameplay.updateRate);
+        tickRateCheckCounter = worker.getEntityId() % TICK_RATE_CHECK_INTERVAL;
+        final String aiName = getClass().getSimpleName();
+        stateMachine.setProfilerSections(new TickProfiler.SectionCache<>(job.getCitizen().getColony(), TickProfiler.Category.AI, state -> aiName + "/" + state));
     }
 
     /**
@@ -129,9 +143,39 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
     @Override
     public final void updateTask()
     {
+        if (++tickRateCheckCounter >= TICK_RATE_CHECK_INTERVAL)
+        {
+            tickRateCheckCounter = 0;
+            updateTickRate();
+        }
         stateMachine.tick();
     }
 
+    /**
+     * Adapt the tick rate of the statemachine to the distance to the players and the server load.
+     */
+    private void updateTickRate()
+    {
+        final int tickRate = isTickRateAdaptive()
+                               ? AITickRateController.getTickRate(worker, Configurations.gameplay.updateRate)
+                               : Configurations.gameplay.updateRate;
+        if (tickRate != stateMachine.getTickRate())
+        {
+            stateMachine.setTickRate(tickRate);
+        }
+    }
+
+    /**
+     * Check if the AI may be updated less often when no player is close by or the server is overloaded.
+     * Override to keep AIs which have to react fast at the full rate.
+     *
+     * @return true if so.
+     */
+    protected boolean isTickRateAdaptive()
+    {
+        return true;
+    }
+
     protected void onException(final RuntimeException e)
     {
     }
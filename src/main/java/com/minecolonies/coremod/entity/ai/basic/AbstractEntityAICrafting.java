@@ -241,6 +241,7 @@ public abstract class AbstractEntityAICrafting<J extends AbstractJobCrafter> ext
                 }
 
                 currentRequest.addDelivery(currentRecipeStorage.getPrimaryOutput());
+                getOwnBuilding().getColony().getRequestManager().onRequestChanged(currentRequest.getId());
                 job.setCraftCounter(job.getCraftCounter() + 1);
 
                 if (job.getCraftCounter() >= job.getMaxCraftingCount())
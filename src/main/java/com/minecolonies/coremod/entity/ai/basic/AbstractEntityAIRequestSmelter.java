@@ -164,6 +164,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
         if (resultCount > 0)
         {
             currentRequest.addDelivery(currentRecipeStorage.getPrimaryOutput());
+            getOwnBuilding().getColony().getRequestManager().onRequestChanged(currentRequest.getId());
             incrementActionsDoneAndDecSaturation();
         }
 
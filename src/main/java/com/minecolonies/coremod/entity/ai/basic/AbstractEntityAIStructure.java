@@ -2,7 +2,6 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.ldtteam.structurize.placementhandlers.IPlacementHandler;
 import com.ldtteam.structurize.placementhandlers.PlacementHandlers;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.ldtteam.structurize.util.StructurePlacementUtils;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.interactionhandling.TranslationTextComponent;
@@ -17,6 +16,7 @@ import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.util.StructureIterator;
+import com.minecolonies.api.entity.ai.util.StructureTemplateCache;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -806,23 +806,17 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
         rotation = rotateTimes;
         try
         {
-            final com.ldtteam.structures.helpers.Structure structure = new com.ldtteam.structures.helpers.Structure(world, name, new PlacementSettings());
+            final com.ldtteam.structures.helpers.Structure structure =
+              StructureTemplateCache.getStructure(world, name, rotateTimes, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, position);
             job.setStructure(structure);
             currentStructure = new StructureIterator(world, structure, removal ? StructureIterator.Stage.REMOVE : StructureIterator.Stage.CLEAR);
         }
         catch (final IllegalStateException e)
         {
             Log.getLogger().warn(String.format("StructureProxy: (%s) does not exist - removing build request", name), e);
+            handleSpecificCancelActions();
             job.setStructure(null);
         }
-
-        try
-        {
-            job.getStructure().rotate(BlockPosUtil.getRotationFromRotations(rotateTimes), world, position, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
-            job.getStructure().setPosition(position);
-            job.getStructure().setPlacementSettings(new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)));
-
-        }
         catch (final NullPointerException ex)
         {
             handleSpecificCancelActions();
@@ -195,6 +195,7 @@ public class EntityAIWorkCrusher<J extends JobCrusher> extends AbstractEntityAIC
                 final ItemStack primaryOutput = currentRecipeStorage.getPrimaryOutput();
                 primaryOutput.setCount(currentRequest.getRequest().getCount());
                 currentRequest.addDelivery(primaryOutput);
+                getOwnBuilding().getColony().getRequestManager().onRequestChanged(currentRequest.getId());
                 incrementActionsDoneAndDecSaturation();
                 job.setMaxCraftingCount(0);
                 job.setCraftCounter(0);
@@ -0,0 +1,197 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Plans the trips of the deliveryman: which queued deliveries are carried together and in which order their destinations are visited.
+ * Deliveries are carried together when they are picked up close to each other and delivered close to each other.
+ */
+public final class DeliveryTripPlanner
+{
+    /**
+     * Maximum amount of improvement rounds when ordering the stops.
+     */
+    private static final int MAX_IMPROVEMENT_ROUNDS = 8;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private DeliveryTripPlanner()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Select the deliveries of the next trip from a queue.
+     * The first delivery of the queue is always part of the trip, the others are added in queue order if they are picked up within the
+     * pickup radius of the first one and delivered within the destination radius of a delivery already on the trip.
+     *
+     * @param queue             the queued deliveries, in the order they were assigned.
+     * @param start             gets the position a delivery is picked up at.
+     * @param target            gets the position a delivery is delivered to.
+     * @param maxDeliveries     the maximum amount of deliveries to carry.
+     * @param pickupRadius      the maximum distance between pickups.
+     * @param destinationRadius the maximum distance between destinations.
+     * @param <T>               the type of the deliveries.
+     * @return the deliveries of the trip, empty if the queue is.
+     */
+    @NotNull
+    public static <T> List<T> selectTrip(
+      @NotNull final List<T> queue,
+      @NotNull final Function<T, BlockPos> start,
+      @NotNull final Function<T, BlockPos> target,
+      final int maxDeliveries,
+      final int pickupRadius,
+      final int destinationRadius)
+    {
+        final List<T> trip = new ArrayList<>();
+        if (queue.isEmpty())
+        {
+            return trip;
+        }
+
+        final T first = queue.get(0);
+        trip.add(first);
+        final BlockPos pickup = start.apply(first);
+        final long pickupRadiusSq = (long) pickupRadius * pickupRadius;
+        final long destinationRadiusSq = (long) destinationRadius * destinationRadius;
+
+        for (final T delivery : queue.subList(1, queue.size()))
+        {
+            if (trip.size() >= maxDeliveries)
+            {
+                break;
+            }
+
+            if (BlockPosUtil.getDistanceSquared(pickup, start.apply(delivery)) > pickupRadiusSq)
+            {
+                continue;
+            }
+
+            final BlockPos destination = target.apply(delivery);
+            for (final T onTrip : trip)
+            {
+                if (BlockPosUtil.getDistanceSquared(target.apply(onTrip), destination) <= destinationRadiusSq)
+                {
+                    trip.add(delivery);
+                    break;
+                }
+            }
+        }
+        return trip;
+    }
+
+    /**
+     * Order the stops of a trip to keep the walked distance short.
+     * Starts with the nearest neighbour tour from the given position and improves it by reversing parts of it (2-opt) as long as that
+     * shortens the tour, the tour does not return to its start.
+     *
+     * @param from     the position the tour starts at.
+     * @param stops    the stops.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     * @return the stops in the order to visit them.
+     */
+    @NotNull
+    public static <T> List<T> orderStops(@NotNull final BlockPos from, @NotNull final List<T> stops, @NotNull final Function<T, BlockPos> position)
+    {
+        final List<T> remaining = new ArrayList<>(stops);
+        final List<T> tour = new ArrayList<>(stops.size());
+        BlockPos current = from;
+        while (!remaining.isEmpty())
+        {
+            int nearest = 0;
+            long nearestDistance = Long.MAX_VALUE;
+            for (int i = 0; i < remaining.size(); i++)
+            {
+                final long distance = BlockPosUtil.getDistanceSquared(current, position.apply(remaining.get(i)));
+                if (distance < nearestDistance)
+                {
+                    nearest = i;
+                    nearestDistance = distance;
+                }
+            }
+            final T next = remaining.remove(nearest);
+            tour.add(next);
+            current = position.apply(next);
+        }
+
+        improve(from, tour, position);
+        return tour;
+    }
+
+    /**
+     * Improve an open tour by reversing the part between two stops whenever that makes it shorter.
+     *
+     * @param from     the position the tour starts at.
+     * @param tour     the tour, changed in place.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     */
+    private static <T> void improve(@NotNull final BlockPos from, @NotNull final List<T> tour, @NotNull final Function<T, BlockPos> position)
+    {
+        final List<BlockPos> points = new ArrayList<>(tour.size() + 1);
+        points.add(from);
+        for (final T stop : tour)
+        {
+            points.add(position.apply(stop));
+        }
+
+        boolean improved = true;
+        for (int round = 0; improved && round < MAX_IMPROVEMENT_ROUNDS; round++)
+        {
+            improved = false;
+            for (int i = 1; i < points.size() - 1; i++)
+            {
+                for (int j = i + 1; j < points.size(); j++)
+                {
+                    // Reversing i..j replaces the edges (i-1,i) and (j,j+1) with (i-1,j) and (i,j+1), the last stop has no edge after it.
+                    final double before = distance(points.get(i - 1), points.get(i)) + (j + 1 < points.size() ? distance(points.get(j), points.get(j + 1)) : 0);
+                    final double after = distance(points.get(i - 1), points.get(j)) + (j + 1 < points.size() ? distance(points.get(i), points.get(j + 1)) : 0);
+                    if (after < before - 1.0E-6D)
+                    {
+                        reverse(points, i, j);
+                        reverse(tour, i - 1, j - 1);
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the distance between two positions.
+     *
+     * @param a the first position.
+     * @param b the second position.
+     * @return the distance.
+     */
+    private static double distance(@NotNull final BlockPos a, @NotNull final BlockPos b)
+    {
+        return Math.sqrt(BlockPosUtil.getDistanceSquared(a, b));
+    }
+
+    /**
+     * Reverse a part of a list.
+     *
+     * @param list the list.
+     * @param from the first index of the part.
+     * @param to   the last index of the part.
+     * @param <T>  the type of the elements.
+     */
+    private static <T> void reverse(@NotNull final List<T> list, final int from, final int to)
+    {
+        for (int i = from, j = to; i < j; i++, j--)
+        {
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+}
@@ -11,12 +11,14 @@ import com.minecolonies.api.colony.interactionhandling.TranslationTextComponent;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
+import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryFunctions;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -43,11 +45,14 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABILITY;
 
@@ -81,6 +86,11 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     private static final int TRIES_TO_GET_RANDOM_BUILDING = 3;
 
+    /**
+     * The maximal distance between the pickups of deliveries carried on the same trip, covers the racks of a warehouse.
+     */
+    private static final int TRIP_PICKUP_RADIUS = 24;
+
     /**
      * Next target the deliveryman should gather stuff at.
      */
@@ -116,6 +126,16 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     private ILocation lastDelivery = null;
 
+    /**
+     * The deliveries of the current trip, in the order they are delivered.
+     */
+    private final List<IToken<?>> trip = new ArrayList<>();
+
+    /**
+     * The deliveries of the current trip whose items were gathered already.
+     */
+    private final Set<IToken<?>> gathered = new HashSet<>();
+
     /**
      * Initialize the deliveryman and add all his tasks.
      *
@@ -421,6 +441,8 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
         getAndCheckWarehouse().getTileEntity().dumpInventoryIntoWareHouse(worker.getInventoryCitizen());
         gatherTarget = null;
+        trip.clear();
+        gathered.clear();
         worker.getCitizenItemHandler().setHeldItem(EnumHand.MAIN_HAND, SLOT_HAND);
 
 
@@ -502,17 +524,32 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         final AbstractTileEntityColonyBuilding iTileEntityColonyBuilding = (AbstractTileEntityColonyBuilding) tileEntity;
         final IBuildingContainer building = iTileEntityColonyBuilding.getBuilding();
 
+        // On a trip the inventory holds the items of the other deliveries as well, only hand over the ones of this delivery.
+        final IRequest<? extends Delivery> currentTask = job.getCurrentTask();
+        final ItemStack requested = currentTask != null && trip.contains(currentTask.getId()) ? currentTask.getRequest().getStack() : null;
+        int missing = requested == null ? Integer.MAX_VALUE : requested.getCount();
+
         boolean success = true;
         boolean extracted = false;
         final InvWrapper workerInventory = new InvWrapper(worker.getInventoryCitizen());
-        for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots(); i++)
+        for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots() && missing > 0; i++)
         {
-            final ItemStack stack = workerInventory.extractItem(i, Integer.MAX_VALUE, false);
+            if (requested != null && !ItemStackUtils.compareItemStacksIgnoreStackSize(requested, workerInventory.getStackInSlot(i), true, true))
+            {
+                continue;
+            }
+
+            final ItemStack stack = workerInventory.extractItem(i, missing, false);
             if (ItemStackUtils.isEmpty(stack))
             {
                 continue;
             }
 
+            if (requested != null)
+            {
+                missing -= stack.getCount();
+            }
+
             extracted = true;
             final ItemStack insertionResultStack;
 
@@ -566,10 +603,34 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         deliveryHut.setBuildingToDeliver(null);
         job.finishRequest(true);
 
+        if (success && continueTrip())
+        {
+            setDelay(DUMP_AND_GATHER_DELAY);
+            return PREPARE_DELIVERY;
+        }
+
         setDelay(WAIT_DELAY);
         return success ? START_WORKING : DUMPING;
     }
 
+    /**
+     * Check if the deliveryman carries the items of the next delivery of his trip already, and if so continue with it instead of returning.
+     *
+     * @return true if the trip continues.
+     */
+    private boolean continueTrip()
+    {
+        final List<IToken<?>> queue = job.getTaskQueue();
+        trip.retainAll(queue);
+        if (trip.isEmpty() || !trip.get(0).equals(queue.get(0)) || !gathered.containsAll(trip))
+        {
+            return false;
+        }
+
+        job.setReturning(false);
+        return true;
+    }
+
     /**
      * Prepare deliveryman for delivery.
      * Check if the building still needs the item and if the required items are still in the warehouse.
@@ -588,6 +649,11 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                 {
                     return DUMPING;
                 }
+                if (Configurations.requestSystem.deliverymanTripBatching)
+                {
+                    return prepareTrip(request);
+                }
+
                 ((IBuildingDeliveryman) ownBuilding).setBuildingToDeliver(request.getRequest().getTarget());
                 if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
                   itemStack -> request.getRequest().getStack().isItemEqualIgnoreDurability(itemStack)))
@@ -601,6 +667,164 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         return START_WORKING;
     }
 
+    /**
+     * Prepare a trip starting with the current delivery: plan it if not done yet, gather the items of all its deliveries and start delivering.
+     *
+     * @param request the current delivery.
+     * @return the next state to go to.
+     */
+    private IAIState prepareTrip(@NotNull final IRequest<? extends Delivery> request)
+    {
+        trip.retainAll(job.getTaskQueue());
+        gathered.retainAll(trip);
+        if (trip.isEmpty() || !trip.get(0).equals(request.getId()))
+        {
+            if (!gathered.isEmpty())
+            {
+                // The trip was broken up, bring the items of it back before planning a new one.
+                job.setReturning(true);
+                return DUMPING;
+            }
+            planTrip(request);
+        }
+
+        final IRequest<? extends Delivery> next = getNextToGather();
+        if (next != null)
+        {
+            return gatherItems(next);
+        }
+
+        final IRequest<? extends Delivery> first = job.getCurrentTask();
+        if (first == null)
+        {
+            return START_WORKING;
+        }
+        ((IBuildingDeliveryman) getOwnBuilding()).setBuildingToDeliver(first.getRequest().getTarget());
+        return DELIVERY;
+    }
+
+    /**
+     * Plan the trip starting with the current delivery: select the queued deliveries to carry along and move them to the front of the queue in
+     * the order of their destinations.
+     *
+     * @param request the current delivery.
+     */
+    @SuppressWarnings(UNCHECKED)
+    private void planTrip(@NotNull final IRequest<? extends Delivery> request)
+    {
+        final List<IRequest<? extends Delivery>> candidates = new ArrayList<>();
+        candidates.add(request);
+        for (final IToken<?> token : job.getTaskQueue())
+        {
+            if (token.equals(request.getId()))
+            {
+                continue;
+            }
+
+            final IRequest<?> queued = job.getColony().getRequestManager().getRequestForToken(token);
+            if (queued != null && queued.getRequest() instanceof Delivery
+                  && ((Delivery) queued.getRequest()).getStart().isReachableFromLocation(worker.getLocation())
+                  && ((Delivery) queued.getRequest()).getTarget().isReachableFromLocation(worker.getLocation()))
+            {
+                candidates.add((IRequest<? extends Delivery>) queued);
+            }
+        }
+
+        final List<IRequest<? extends Delivery>> selected = DeliveryTripPlanner.selectTrip(candidates,
+          r -> r.getRequest().getStart().getInDimensionLocation(),
+          r -> r.getRequest().getTarget().getInDimensionLocation(),
+          getTripCapacity(),
+          TRIP_PICKUP_RADIUS,
+          Configurations.requestSystem.deliverymanTripRadius);
+        final List<IRequest<? extends Delivery>> ordered = DeliveryTripPlanner.orderStops(request.getRequest().getStart().getInDimensionLocation(),
+          selected,
+          r -> r.getRequest().getTarget().getInDimensionLocation());
+
+        trip.clear();
+        gathered.clear();
+        for (final IRequest<? extends Delivery> delivery : ordered)
+        {
+            trip.add(delivery.getId());
+        }
+        markCarriedAsGathered(ordered);
+        job.prioritizeTasks(trip);
+    }
+
+    /**
+     * Mark the deliveries of a trip whose items the worker already carries as gathered, for example after a restart in the middle of a trip.
+     * Each stack in the inventory counts for one delivery only.
+     *
+     * @param deliveries the deliveries of the trip.
+     */
+    private void markCarriedAsGathered(@NotNull final List<IRequest<? extends Delivery>> deliveries)
+    {
+        final InvWrapper inventory = new InvWrapper(worker.getInventoryCitizen());
+        final Set<Integer> claimedSlots = new HashSet<>();
+        for (final IRequest<? extends Delivery> delivery : deliveries)
+        {
+            final ItemStack wanted = delivery.getRequest().getStack();
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                if (!claimedSlots.contains(slot) && !ItemStackUtils.isEmpty(stack) && wanted.isItemEqualIgnoreDurability(stack))
+                {
+                    claimedSlots.add(slot);
+                    gathered.add(delivery.getId());
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of deliveries the worker can carry on one trip, one stack each.
+     * Limited by the free slots of his inventory and the same building level limit as the gathering.
+     *
+     * @return the amount, at least one.
+     */
+    private int getTripCapacity()
+    {
+        final InvWrapper inventory = new InvWrapper(worker.getInventoryCitizen());
+        int capacity = inventory.getSlots() - InventoryUtils.getAmountOfStacksInItemHandler(inventory);
+        if (getOwnBuilding().getBuildingLevel() < getOwnBuilding().getMaxBuildingLevel())
+        {
+            capacity = Math.min(capacity, (int) Math.pow(2, getOwnBuilding().getBuildingLevel() - 1.0D) + 1);
+        }
+        return Math.max(1, capacity);
+    }
+
+    /**
+     * Get the delivery of the trip whose items should be gathered next, the one picked up closest to the worker.
+     *
+     * @return the delivery or null if all items were gathered.
+     */
+    @Nullable
+    @SuppressWarnings(UNCHECKED)
+    private IRequest<? extends Delivery> getNextToGather()
+    {
+        IRequest<? extends Delivery> nearest = null;
+        long nearestDistance = Long.MAX_VALUE;
+        for (final IToken<?> token : trip)
+        {
+            if (gathered.contains(token))
+            {
+                continue;
+            }
+
+            final IRequest<?> request = job.getColony().getRequestManager().getRequestForToken(token);
+            if (request != null && request.getRequest() instanceof Delivery)
+            {
+                final long distance = BlockPosUtil.getDistanceSquared(worker.getPosition(), ((Delivery) request.getRequest()).getStart().getInDimensionLocation());
+                if (distance < nearestDistance)
+                {
+                    nearest = (IRequest<? extends Delivery>) request;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearest;
+    }
+
     /**
      * Gather item from chest.
      * Gathers only one stack of the item.
@@ -613,9 +837,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
         if (!location.isReachableFromLocation(worker.getLocation()))
         {
-            ((IBuildingDeliveryman) getOwnBuilding()).setBuildingToDeliver(null);
-            job.finishRequest(false);
-            return START_WORKING;
+            return onGatherFailed(request);
         }
 
         if (walkToBlock(location.getInDimensionLocation()))
@@ -642,9 +864,32 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         if (gatherIfInTileEntity(tileEntity, request.getRequest().getStack()))
         {
             setDelay(DUMP_AND_GATHER_DELAY);
+            if (trip.contains(request.getId()))
+            {
+                gathered.add(request.getId());
+                return PREPARE_DELIVERY;
+            }
             return DELIVERY;
         }
 
+        return onGatherFailed(request);
+    }
+
+    /**
+     * Called when the items of a delivery could not be gathered.
+     * Deliveries carried along on a trip are only left out of it, the current one fails.
+     *
+     * @param request the delivery.
+     * @return the next state to go to.
+     */
+    private IAIState onGatherFailed(@NotNull final IRequest<? extends Delivery> request)
+    {
+        if (trip.size() > 1 && trip.contains(request.getId()) && !trip.get(0).equals(request.getId()))
+        {
+            trip.remove(request.getId());
+            return PREPARE_DELIVERY;
+        }
+
         ((IBuildingDeliveryman) getOwnBuilding()).setBuildingToDeliver(null);
         job.finishRequest(false);
         return START_WORKING;
@@ -9,6 +9,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.constant.CitizenConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingEnchanter;
@@ -363,7 +364,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAIInteract<JobEnchanter
             worker.getCitizenData().levelUp();
         }
         worker.getCitizenExperienceHandler().updateLevel();
-        worker.getCitizenData().markDirty();
+        worker.getCitizenData().markDirty(CitizenConstants.DIRTY_SKILLS);
 
         resetDraining();
         return IDLE;
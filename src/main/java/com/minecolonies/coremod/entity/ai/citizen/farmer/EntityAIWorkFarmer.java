@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.TranslationTextComponent;
 import com.minecolonies.api.colony.requestsystem.requestable.StackList;
 import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
@@ -13,13 +14,11 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.tileentities.AbstractScarescrowTileEntity;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.blocks.BlockScarecrow;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.interactionhandling.PosBasedInteractionResponseHandler;
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteractionResponseHandler;
@@ -90,12 +89,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     @Nullable
     private BlockPos workingOffset;
 
-    /**
-     * The previous position which has been worked at.
-     */
-    @Nullable
-    private BlockPos prevPos;
-
     /**
      * Variables used in handleOffset.
      */
@@ -286,16 +279,16 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean checkIfShouldExecute(@NotNull final TileEntityScarecrow field, @NotNull final Predicate<BlockPos> predicate)
     {
-        if (workingOffset == null)
+        if (workingOffset == null && !nextCell(field))
         {
-            handleOffset(field);
+            return false;
         }
 
         BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
 
         while (!predicate.test(position))
         {
-            if (!handleOffset(field))
+            if (!nextCell(field))
             {
                 return false;
             }
@@ -313,6 +306,12 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private IAIState canGoPlanting(@NotNull final TileEntityScarecrow currentField, @NotNull final BuildingFarmer buildingFarmer)
     {
+        if (Configurations.gameplay.farmerCellIndex && !FieldCellIndex.get(world, currentField).hasAny(FieldCellIndex.PLANT))
+        {
+            currentField.nextState();
+            return PREPARING;
+        }
+
         if (currentField.getSeed() == null)
         {
             worker.getCitizenData().triggerInteraction(new PosBasedInteractionResponseHandler(new TranslationTextComponent(NO_SEED_SET, currentField.getPos()), ChatPriority.BLOCKING, new TranslationTextComponent(NO_SEED_SET), currentField.getPos()));
@@ -350,9 +349,55 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldHoe(@NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
     {
-        return !field.isNoPartOfField(world, position) && !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockScarecrow)
-                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+        return FieldCellIndex.shouldHoe(world, field, position);
+    }
+
+    /**
+     * Move on to the next cell of the field which may need work in the current stage of the field.
+     * Jumps straight to it with the cell index of the field, goes through all cells otherwise.
+     *
+     * @param field the field object.
+     * @return true if there is one, false if the end of the field was reached.
+     */
+    private boolean nextCell(@NotNull final TileEntityScarecrow field)
+    {
+        if (!Configurations.gameplay.farmerCellIndex)
+        {
+            return handleOffset(field);
+        }
+
+        final FieldCellIndex index = FieldCellIndex.get(world, field);
+        final int next = index.next(workingOffset == null ? FieldCellIndex.NONE : index.getIndex(workingOffset.getX(), workingOffset.getZ()), getCellMask(field));
+        if (next == FieldCellIndex.NONE)
+        {
+            workingOffset = null;
+            return false;
+        }
+
+        workingOffset = index.getOffset(next);
+        return true;
+    }
+
+    /**
+     * Get the flags of the cells which need work in the current stage of a field.
+     *
+     * @param field the field.
+     * @return the flags, see {@link FieldCellIndex}.
+     */
+    private int getCellMask(@NotNull final TileEntityScarecrow field)
+    {
+        switch (field.getFieldStage())
+        {
+            case EMPTY:
+                return FieldCellIndex.HOE;
+            case HOED:
+                return FieldCellIndex.PLANT;
+            default:
+                // Growing crops are ripened with compost if the farmer has some.
+                return InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isCompost)
+                         ? FieldCellIndex.RIPE | FieldCellIndex.GROWING
+                         : FieldCellIndex.RIPE;
+        }
     }
 
     /**
@@ -484,16 +529,14 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                         default:
                             return PREPARING;
                     }
-                    prevPos = position;
                 }
                 setDelay(getLevelDelay());
             }
 
-            if (!handleOffset(scarecrow))
+            if (!nextCell(scarecrow))
             {
                 shouldDumpInventory = true;
                 scarecrow.nextState();
-                prevPos = null;
                 return IDLE;
             }
         }
@@ -584,9 +627,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final TileEntityScarecrow field)
     {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockScarecrow) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+        return FieldCellIndex.shouldPlant(world, field, position);
     }
 
     /**
@@ -605,7 +646,8 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         }
 
         @NotNull final IPlantable seed = (IPlantable) item.getItem();
-        if ((seed == Items.MELON_SEEDS || seed == Items.PUMPKIN_SEEDS) && prevPos != null && !world.isAirBlock(prevPos.up()))
+        if ((seed == Items.MELON_SEEDS || seed == Items.PUMPKIN_SEEDS)
+              && !FieldCellIndex.hasRoomForStem(position, cropPos -> FieldCellIndex.isStemOrFruit(world.getBlockState(cropPos).getBlock())))
         {
             return true;
         }
@@ -670,7 +712,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     public boolean isCrop(final Block block)
     {
-        return block instanceof IGrowable && block instanceof BlockCrops;
+        return FieldCellIndex.isCrop(block);
     }
 
     /**
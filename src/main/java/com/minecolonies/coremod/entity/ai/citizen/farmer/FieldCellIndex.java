@@ -0,0 +1,422 @@
+package com.minecolonies.coremod.entity.ai.citizen.farmer;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.BlockScarecrow;
+import com.minecolonies.coremod.tileentities.TileEntityScarecrow;
+import net.minecraft.block.*;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+
+/**
+ * The state of the cells of a farmer field: which ones have to be hoed, planted or harvested.
+ * Cells are identified by their linear index in the field rectangle, x first, then z.
+ * <p>
+ * Cells are marked dirty when a block of them changes or a crop on them grows and classified again the next time the index is used, the whole
+ * field is classified again once in a while to catch changes without an event. So the farmer can go straight to the cells which need work and
+ * a field without work only costs a look at the index.
+ * Only to be used on the server thread.
+ */
+public final class FieldCellIndex
+{
+    /**
+     * The ground of the cell has to be hoed.
+     */
+    public static final int HOE = 1;
+
+    /**
+     * The cell is farmland without a crop.
+     */
+    public static final int PLANT = 2;
+
+    /**
+     * The crop of the cell is ripe.
+     */
+    public static final int RIPE = 4;
+
+    /**
+     * The crop of the cell still grows.
+     */
+    public static final int GROWING = 8;
+
+    /**
+     * Returned when there is no further cell.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Ticks after which the whole field is classified again.
+     */
+    private static final int RECONCILE_INTERVAL = TICKS_SECOND * 60;
+
+    /**
+     * The indexes of the fields currently in use, the index does not reference its field to not keep it loaded.
+     */
+    private static final Map<TileEntityScarecrow, FieldCellIndex> indexes = new WeakHashMap<>();
+
+    /**
+     * The dimension of the world the field is in.
+     */
+    private final int dimension;
+
+    /**
+     * The ground position of the scarecrow, offsets are relative to it.
+     */
+    private final BlockPos origin;
+
+    /**
+     * The extent of the field around the scarecrow.
+     */
+    private final int lengthMinusX;
+    private final int lengthPlusX;
+    private final int widthMinusZ;
+    private final int widthPlusZ;
+
+    /**
+     * The size of the field in x direction.
+     */
+    private final int sizeX;
+
+    /**
+     * The flags of each cell.
+     */
+    private final byte[] cells;
+
+    /**
+     * The cells which have to be classified again.
+     */
+    private final BitSet dirty = new BitSet();
+
+    /**
+     * The world time the whole field was classified last.
+     */
+    private long lastReconcile;
+
+    /**
+     * Create the index of a field, all cells still have to be classified.
+     *
+     * @param world the world.
+     * @param field the field.
+     */
+    private FieldCellIndex(@NotNull final World world, @NotNull final TileEntityScarecrow field)
+    {
+        this.dimension = world.provider.getDimension();
+        this.origin = field.getPos().down();
+        this.lengthMinusX = field.getLengthMinusX();
+        this.lengthPlusX = field.getLengthPlusX();
+        this.widthMinusZ = field.getWidthMinusZ();
+        this.widthPlusZ = field.getWidthPlusZ();
+        this.sizeX = lengthMinusX + lengthPlusX + 1;
+        this.cells = new byte[sizeX * (widthMinusZ + widthPlusZ + 1)];
+        this.lastReconcile = world.getTotalWorldTime();
+        dirty.set(0, cells.length);
+    }
+
+    /**
+     * Get the up to date index of a field, creates it if necessary.
+     *
+     * @param world the world.
+     * @param field the field.
+     * @return the index.
+     */
+    @NotNull
+    public static FieldCellIndex get(@NotNull final World world, @NotNull final TileEntityScarecrow field)
+    {
+        FieldCellIndex index = indexes.get(field);
+        if (index == null || !index.matches(field))
+        {
+            index = new FieldCellIndex(world, field);
+            indexes.put(field, index);
+        }
+        else if (world.getTotalWorldTime() - index.lastReconcile >= RECONCILE_INTERVAL)
+        {
+            index.lastReconcile = world.getTotalWorldTime();
+            index.dirty.set(0, index.cells.length);
+        }
+
+        index.refresh(world, field);
+        return index;
+    }
+
+    /**
+     * Called when a block in a world changed, marks the cells it belongs to dirty.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (world.isRemote || indexes.isEmpty())
+        {
+            return;
+        }
+
+        final int dim = world.provider.getDimension();
+        for (final FieldCellIndex index : indexes.values())
+        {
+            if (index.dimension == dim)
+            {
+                // The ground and the crop on top of it belong to the same cell.
+                index.markDirty(pos);
+                index.markDirty(pos.down());
+            }
+        }
+    }
+
+    /**
+     * Forget all indexes, for example when the server stops.
+     */
+    public static void clear()
+    {
+        indexes.clear();
+    }
+
+    /**
+     * Check if the index still has the size of its field.
+     *
+     * @param field the field.
+     * @return true if so.
+     */
+    private boolean matches(@NotNull final TileEntityScarecrow field)
+    {
+        return origin.equals(field.getPos().down())
+                 && lengthMinusX == field.getLengthMinusX()
+                 && lengthPlusX == field.getLengthPlusX()
+                 && widthMinusZ == field.getWidthMinusZ()
+                 && widthPlusZ == field.getWidthPlusZ();
+    }
+
+    /**
+     * Mark the cell of a ground position dirty, if it is part of the field.
+     *
+     * @param pos the ground position.
+     */
+    private void markDirty(@NotNull final BlockPos pos)
+    {
+        if (pos.getY() == origin.getY())
+        {
+            final int index = getIndex(pos.getX() - origin.getX(), pos.getZ() - origin.getZ());
+            if (index != NONE)
+            {
+                dirty.set(index);
+            }
+        }
+    }
+
+    /**
+     * Classify the dirty cells again.
+     *
+     * @param world the world.
+     * @param field the field.
+     */
+    private void refresh(@NotNull final World world, @NotNull final TileEntityScarecrow field)
+    {
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1))
+        {
+            cells[i] = (byte) classify(world, field, getPosition(i));
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Check if any cell of the field has one of the flags.
+     *
+     * @param mask the flags.
+     * @return true if so.
+     */
+    public boolean hasAny(final int mask)
+    {
+        return next(NONE, mask) != NONE;
+    }
+
+    /**
+     * Get the next cell after the given one which has one of the flags.
+     *
+     * @param from the current cell, {@link #NONE} to start at the first one.
+     * @param mask the flags.
+     * @return the next cell or {@link #NONE} if there is none.
+     */
+    public int next(final int from, final int mask)
+    {
+        for (int i = Math.max(0, from + 1); i < cells.length; i++)
+        {
+            if ((cells[i] & mask) != 0)
+            {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Get the cell of an offset to the scarecrow.
+     *
+     * @param offsetX the x offset.
+     * @param offsetZ the z offset.
+     * @return the cell or {@link #NONE} if it is not part of the field.
+     */
+    public int getIndex(final int offsetX, final int offsetZ)
+    {
+        if (offsetX < -lengthMinusX || offsetX > lengthPlusX || offsetZ < -widthMinusZ || offsetZ > widthPlusZ)
+        {
+            return NONE;
+        }
+        return (offsetZ + widthMinusZ) * sizeX + offsetX + lengthMinusX;
+    }
+
+    /**
+     * Get the offset of a cell to the scarecrow.
+     *
+     * @param index the cell.
+     * @return the offset, y is always 0.
+     */
+    @NotNull
+    public BlockPos getOffset(final int index)
+    {
+        return new BlockPos(index % sizeX - lengthMinusX, 0, index / sizeX - widthMinusZ);
+    }
+
+    /**
+     * Get the ground position of a cell.
+     *
+     * @param index the cell.
+     * @return the position.
+     */
+    @NotNull
+    private BlockPos getPosition(final int index)
+    {
+        return origin.add(getOffset(index));
+    }
+
+    /**
+     * Classify a cell.
+     *
+     * @param world    the world.
+     * @param field    the field.
+     * @param position the ground position of the cell.
+     * @return the flags of the cell.
+     */
+    private static int classify(@NotNull final World world, @NotNull final TileEntityScarecrow field, @NotNull final BlockPos position)
+    {
+        if (field.isNoPartOfField(world, position))
+        {
+            return 0;
+        }
+
+        int flags = 0;
+        if (shouldHoe(world, field, position))
+        {
+            flags |= HOE;
+        }
+        if (shouldPlant(world, field, position))
+        {
+            flags |= PLANT;
+        }
+
+        final IBlockState crop = world.getBlockState(position.up());
+        if (isRipe(crop))
+        {
+            flags |= RIPE;
+        }
+        else if (isCrop(crop.getBlock()))
+        {
+            flags |= GROWING;
+        }
+        return flags;
+    }
+
+    /**
+     * Checks if the ground should be hoed and the block above removed.
+     *
+     * @param world    the world.
+     * @param field    the field close to this position.
+     * @param position the position to check.
+     * @return true if should be hoed.
+     */
+    public static boolean shouldHoe(@NotNull final World world, @NotNull final TileEntityScarecrow field, @NotNull final BlockPos position)
+    {
+        return !field.isNoPartOfField(world, position) && !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockScarecrow)
+                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param field    the field close to this position.
+     * @param position the position to check.
+     * @return true if the farmer should plant.
+     */
+    public static boolean shouldPlant(@NotNull final World world, @NotNull final TileEntityScarecrow field, @NotNull final BlockPos position)
+    {
+        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
+                 && !(world.getBlockState(position).getBlock() instanceof BlockScarecrow) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+    }
+
+    /**
+     * Check if a crop is ripe, pumpkins and melons always are.
+     *
+     * @param state the state of the crop.
+     * @return true if so.
+     */
+    public static boolean isRipe(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        return block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK || (isCrop(block) && ((BlockCrops) block).isMaxAge(state));
+    }
+
+    /**
+     * Check if a melon or pumpkin stem may be planted on a cell.
+     * The fruits need free cells next to their stem to grow on, so no neighbouring cell may hold a stem or a fruit already.
+     * The neighbours are checked directly, since the farmer only visits the cells which need work and not every cell in a row.
+     *
+     * @param position   the ground position of the cell.
+     * @param isOccupied checks if a crop position holds a stem or a fruit.
+     * @return true if so.
+     */
+    public static boolean hasRoomForStem(@NotNull final BlockPos position, @NotNull final Predicate<BlockPos> isOccupied)
+    {
+        for (final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            if (isOccupied.test(position.offset(facing).up()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a block is a stem or the fruit of one.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public static boolean isStemOrFruit(final Block block)
+    {
+        return block instanceof BlockStem || block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK;
+    }
+
+    /**
+     * Check if a block is a crop.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public static boolean isCrop(final Block block)
+    {
+        return block instanceof IGrowable && block instanceof BlockCrops;
+    }
+}
@@ -504,6 +504,17 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
         return DECIDE;
     }
 
+    /**
+     * Guards have to react to threats right away, no matter how far the players are.
+     *
+     * @return false.
+     */
+    @Override
+    protected boolean isTickRateAdaptive()
+    {
+        return false;
+    }
+
     /**
      * Checks if the current targets is still valid, if not searches a new target. Adds experience if the current target died.
      *
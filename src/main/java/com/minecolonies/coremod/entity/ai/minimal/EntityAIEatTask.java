@@ -244,7 +244,7 @@ public class EntityAIEatTask extends EntityAIBase
             AdvancementUtils.TriggerAdvancementPlayersForColony(citizenColony, playerMP -> AdvancementTriggers.CITIZEN_EAT_FOOD.trigger(playerMP, new ItemStack(itemFood)));
         }
 
-        citizenData.markDirty();
+        citizenData.markDirty(CitizenConstants.DIRTY_STATUS);
         citizen.setHeldItem(EnumHand.MAIN_HAND, ItemStack.EMPTY);
 
         if (citizenData.getSaturation() < CitizenConstants.FULL_SATURATION && !stack.isEmpty())
@@ -146,7 +146,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             foodModifier = 0;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
@@ -167,7 +167,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         processDailyHappinessForFarmData();
         processDailyHappinessForToolData();
 
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     private void processDailyHappinessForHomeData(final boolean hasHouse)
@@ -308,9 +308,9 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
             {
                 damageModifier = DAMAGE_MODIFIER_MIN;
             }
-            citizen.markDirty();
+            citizen.markDirty(CitizenConstants.DIRTY_STATUS);
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
@@ -332,7 +332,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         }
 
         field.isCanFarm(canFarm);
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
@@ -365,7 +365,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             needsTool.remove(toolType);
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
@@ -383,7 +383,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             houseModifier = (MAX_HOUSE_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_HOUSE)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
@@ -403,7 +403,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             jobModifier = (MAX_JOB_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_JOB)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenConstants.DIRTY_STATUS);
     }
 
     /**
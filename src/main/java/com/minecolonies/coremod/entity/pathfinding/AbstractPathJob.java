@@ -3,24 +3,28 @@ package com.minecolonies.coremod.entity.pathfinding;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.TickProfiler;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.IMob;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.ChunkCache;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -58,6 +62,12 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private static final int MAX_NODES_VISITED = Configurations.pathfinding.pathfindingMaxNodes;
 
+    /**
+     * The profiler sections of the searches per job type.
+     */
+    private static final TickProfiler.SectionCache<Class<?>> PROFILER_SECTIONS =
+      new TickProfiler.SectionCache<>(null, TickProfiler.Category.PATHFINDING, Class::getSimpleName);
+
     /**
      * Additional cost of jumping and dropping - base 1.
      */
@@ -84,14 +94,34 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final double TOO_FAR_FROM_FENCE = 0.9D;
 
     /**
-     * Shift x by this value to calculate the node key..
+     * Amount of bits of the x and z coordinate in the node key.
+     */
+    private static final int XZ_BITS = 26;
+
+    /**
+     * Amount of bits of the y coordinate in the node key.
+     */
+    private static final int Y_BITS = 12;
+
+    /**
+     * Shift x by this value to calculate the node key.
+     */
+    private static final int SHIFT_X_BY = Y_BITS + XZ_BITS;
+
+    /**
+     * Shift the y value by this to calculate the node key.
      */
-    private static final int SHIFT_X_BY = 20;
+    private static final int SHIFT_Y_BY = XZ_BITS;
 
     /**
-     * Shift the y value by this to calculate the node key..
+     * Mask of the x and z coordinate in the node key.
      */
-    private static final int SHIFT_Y_BY = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+
+    /**
+     * Mask of the y coordinate in the node key.
+     */
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
 
     @Nullable
     protected static Set<Node>          lastDebugNodesVisited;
@@ -101,12 +131,22 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected static Set<Node>          lastDebugNodesPath;
     @NotNull
     protected final  BlockPos           start;
+    /**
+     * Read only snapshot of the world within which to path, safe to use from the pathfinding threads.
+     */
     @NotNull
     protected final  IBlockAccess       world;
+    @NotNull
+    private final    WorldSnapshot      snapshot;
     protected final  PathResult         result;
     private final    int                maxRange;
-    private final    Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final    Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    /**
+     * The open and visited nodes of the search, taken from the node arena of the pathfinding thread when the search starts.
+     */
+    private          NodeHeap           nodesOpen;
+    private          LongNodeMap        nodesVisited;
+    @Nullable
+    private          NodeArena          nodeArena;
     //  Debug Rendering
     protected        boolean            debugDrawEnabled             = false;
     @Nullable
@@ -172,7 +212,8 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.snapshot = new WorldSnapshot(world, new BlockPos(minX - range, MIN_Y, minZ - range), new BlockPos(maxX + range, MAX_Y, maxZ + range));
+        this.world = snapshot;
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -213,7 +254,8 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final int range = (int)Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.snapshot = new WorldSnapshot(world, new BlockPos(minX - range, MIN_Y, minZ - range), new BlockPos(maxX + range, MAX_Y, maxZ + range));
+        this.world = snapshot;
 
         this.start = new BlockPos((minX + maxX) / 2, (startRestriction.getY() + endRestriction.getY()) / 2, (minZ + maxZ) / 2);
         this.maxRange = range;
@@ -232,6 +274,44 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.entity = entity;
     }
 
+    /**
+     * AbstractPathJob constructor for searches restricted to an area, running on an existing snapshot.
+     * Used for sub searches of other jobs, so it can be called from the pathfinding threads.
+     *
+     * @param snapshot         the snapshot of the world within which to path.
+     * @param start            the start position from which to path from.
+     * @param startRestriction start of restricted area.
+     * @param endRestriction   end of restricted area.
+     * @param result           path result.
+     * @param entity           the entity.
+     */
+    protected AbstractPathJob(
+      @NotNull final WorldSnapshot snapshot,
+      @NotNull final BlockPos start,
+      final BlockPos startRestriction,
+      final BlockPos endRestriction,
+      final PathResult result,
+      final EntityLivingBase entity)
+    {
+        this.minX = Math.min(startRestriction.getX(), endRestriction.getX());
+        this.minZ = Math.min(startRestriction.getZ(), endRestriction.getZ());
+        this.maxX = Math.max(startRestriction.getX(), endRestriction.getX());
+        this.maxZ = Math.max(startRestriction.getZ(), endRestriction.getZ());
+
+        xzRestricted = true;
+
+        this.snapshot = snapshot;
+        this.world = snapshot;
+
+        this.start = start;
+        this.maxRange = (int) Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
+
+        this.result = result;
+
+        allowJumpPointSearchTypeWalk = false;
+        this.entity = entity;
+    }
+
     private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
     {
         return currentNode.isLadder() && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
@@ -342,20 +422,20 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates
-     * Encodes the lowest 12 bits of x,z and all useful bits of y.
-     * This creates unique keys for all blocks within a 4096x256x4096 cube, which is FAR
-     * bigger volume than one should attempt to pathfind within
-     * This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates.
+     * Encodes the lowest 26 bits of x,z and 12 bits of y, like {@link BlockPos#toLong()},
+     * which is unique for every block of the world.
      *
-     * @param pos BlockPos to generate key from
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
      * @return key for node in map
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(final int x, final int y, final int z)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return ((x & XZ_MASK) << SHIFT_X_BY)
+                 | ((y & Y_MASK) << SHIFT_Y_BY)
+                 | (z & XZ_MASK);
     }
 
     /**
@@ -367,10 +447,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dx         The x delta from the parent to the new space, in range of [-1..1].
+     * @param dy         The y delta from the parent to the new space.
+     * @param dz         The z delta from the parent to the new space, in range of [-1..1].
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    protected static double computeCost(final int dx, final int dy, final int dz, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dy != 0 && (dx != 0 || dz != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -415,6 +510,57 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the snapshot of the world this job paths in.
+     *
+     * @return the snapshot.
+     */
+    @NotNull
+    protected WorldSnapshot getSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Get the entity this job belongs to.
+     *
+     * @return the entity or null.
+     */
+    @Nullable
+    public EntityLivingBase getEntity()
+    {
+        return entity;
+    }
+
+    /**
+     * Get the priority of this job in the pathfinding queue.
+     * Guards and raiders are calculated first, citizens without a job last.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathJobPriority getPriority()
+    {
+        if (entity instanceof IMob)
+        {
+            return PathJobPriority.HIGH;
+        }
+
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            final IJob job = ((AbstractEntityCitizen) entity).getCitizenJobHandler().getColonyJob();
+            if (job instanceof AbstractJobGuard)
+            {
+                return PathJobPriority.HIGH;
+            }
+            else if (job == null)
+            {
+                return PathJobPriority.LOW;
+            }
+        }
+        return PathJobPriority.NORMAL;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -423,6 +569,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Override
     public final Path call()
     {
+        final long start = TickProfiler.start();
         try
         {
             return search();
@@ -432,6 +579,10 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            TickProfiler.stop(PROFILER_SECTIONS.get(getClass()), start);
+        }
 
         return null;
     }
@@ -443,6 +594,48 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     @Nullable
     protected Path search()
+    {
+        setupNodeStorage();
+        try
+        {
+            return doSearch();
+        }
+        finally
+        {
+            if (nodeArena != null)
+            {
+                nodeArena.reset();
+            }
+        }
+    }
+
+    /**
+     * Prepare the open and visited node storage of this search.
+     * The node arena of the thread is reused, unless debug drawing keeps the nodes after the search.
+     */
+    private void setupNodeStorage()
+    {
+        if (debugDrawEnabled)
+        {
+            nodeArena = null;
+            nodesOpen = new NodeHeap();
+            nodesVisited = new LongNodeMap();
+        }
+        else
+        {
+            nodeArena = NodeArena.get();
+            nodesOpen = nodeArena.getOpen();
+            nodesVisited = nodeArena.getVisited();
+        }
+    }
+
+    /**
+     * Run the A* search on the prepared node storage.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path doSearch()
     {
         Node bestNode = getAndSetupStartNode();
 
@@ -591,8 +784,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = allocateNode(null, start, 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
@@ -604,7 +797,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodesVisited.put(computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
 
         ++totalNodesAdded;
 
@@ -748,7 +941,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
-        int nodeKey = computeNodeKey(pos);
+        long nodeKey = computeNodeKey(pos.getX(), pos.getY(), pos.getZ());
         Node node = nodesVisited.get(nodeKey);
 
         //  Can we traverse into this node?  Fix the y up
@@ -759,15 +952,13 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
+        final int dy = dPos.getY() + newY - pos.getY();
 
         if (pos.getY() != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
-
             //  Has this node been visited?
             pos = new BlockPos(pos.getX(), newY, pos.getZ());
-            nodeKey = computeNodeKey(pos);
+            nodeKey = computeNodeKey(pos.getX(), newY, pos.getZ());
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
             {
@@ -779,7 +970,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         final boolean isSwimming = calculateSwimming(world, pos, node);
         final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(dPos.getX(), dy, dPos.getZ(), isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
@@ -814,11 +1005,10 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-                             final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+                             final Node parent, @NotNull final BlockPos pos, final long nodeKey,
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
-        final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = allocateNode(parent, pos, cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -839,6 +1029,22 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node;
     }
 
+    /**
+     * Get a new node, from the node arena of the thread if there is one.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    private Node allocateNode(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        return nodeArena == null ? new Node(parent, pos, cost, heuristic, score) : nodeArena.obtain(parent, pos, cost, heuristic, score);
+    }
+
     private boolean updateCurrentNode(@NotNull final Node parent, @NotNull final Node node, final double heuristic, final double cost, final double score)
     {
         //  This node already exists
@@ -847,7 +1053,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -857,6 +1063,8 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        //  Lower score, move the node up in the open set
+        nodesOpen.decreaseKey(node);
         return false;
     }
 
@@ -1022,26 +1230,18 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected boolean isPassable(@NotNull final IBlockState block)
     {
-        if (block.getMaterial() != Material.AIR)
-        {
-            if (block.getMaterial().blocksMovement())
-            {
-                return block.getBlock() instanceof BlockDoor
-                         || block.getBlock() instanceof BlockFenceGate
-                         || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
-                         || block.getBlock() instanceof BlockPressurePlate;
-            }
-            else
-            {
-                return !block.getMaterial().isLiquid();
-            }
-        }
-
-        return true;
+        return PathingStateClassification.isPassable(block);
     }
 
     protected boolean isPassable(final BlockPos pos)
     {
+        //  Overrides of isPassable(IBlockState) only widen the base rule, so a state passing it is always passable
+        final int stateId = snapshot.getStateId(pos);
+        if (PathingStateClassification.isPassable(stateId))
+        {
+            return true;
+        }
+
         final IBlockState state = world.getBlockState(pos);
         if (state.getBlock().isPassable(world, pos))
         {
@@ -0,0 +1,168 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable copy of the block states of a chunk, stored as block state ids per chunk section.
+ * Taken on the server thread and afterwards only read, so it can be shared between pathfinding threads.
+ * Sections which did not change since a previous snapshot are shared with it instead of being copied again.
+ */
+public final class ChunkSnapshot
+{
+    /**
+     * Size of a chunk section in each direction.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Amount of blocks in a chunk section.
+     */
+    private static final int SECTION_VOLUME = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTION_COUNT = 16;
+
+    /**
+     * Bit mask of all sections of a chunk.
+     */
+    public static final int ALL_SECTIONS = (1 << SECTION_COUNT) - 1;
+
+    /**
+     * The block state ids per section, indexed y, z, x like {@link ExtendedBlockStorage}. Null for empty sections.
+     */
+    private final char[][] sections = new char[SECTION_COUNT][];
+
+    /**
+     * The biome ids of the chunk.
+     */
+    private final byte[] biomes;
+
+    /**
+     * The world time the snapshot was taken at.
+     */
+    private final long capturedAt;
+
+    /**
+     * Copy the block states of a chunk, must be called on the server thread.
+     *
+     * @param chunk      the chunk.
+     * @param capturedAt the current world time.
+     */
+    public ChunkSnapshot(@NotNull final Chunk chunk, final long capturedAt)
+    {
+        this(chunk, null, ALL_SECTIONS, capturedAt);
+    }
+
+    /**
+     * Copy the changed sections of a chunk, must be called on the server thread.
+     *
+     * @param chunk           the chunk.
+     * @param previous        the previous snapshot of the chunk to take unchanged sections from, or null.
+     * @param changedSections bit mask of the sections which changed since the previous snapshot.
+     * @param capturedAt      the current world time.
+     */
+    public ChunkSnapshot(@NotNull final Chunk chunk, @Nullable final ChunkSnapshot previous, final int changedSections, final long capturedAt)
+    {
+        this.capturedAt = capturedAt;
+        this.biomes = previous == null ? chunk.getBiomeArray().clone() : previous.biomes;
+
+        final ExtendedBlockStorage[] storages = chunk.getBlockStorageArray();
+        for (int i = 0; i < storages.length && i < SECTION_COUNT; i++)
+        {
+            if (previous != null && (changedSections & (1 << i)) == 0)
+            {
+                sections[i] = previous.sections[i];
+                continue;
+            }
+
+            final ExtendedBlockStorage storage = storages[i];
+            if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty())
+            {
+                continue;
+            }
+
+            final char[] ids = new char[SECTION_VOLUME];
+            int index = 0;
+            for (int y = 0; y < SECTION_SIZE; y++)
+            {
+                for (int z = 0; z < SECTION_SIZE; z++)
+                {
+                    for (int x = 0; x < SECTION_SIZE; x++)
+                    {
+                        ids[index++] = (char) Block.BLOCK_STATE_IDS.get(storage.get(x, y, z));
+                    }
+                }
+            }
+            sections[i] = ids;
+        }
+    }
+
+    /**
+     * Get the block state id at a position inside of the chunk.
+     *
+     * @param x the x coordinate, 0 to 15.
+     * @param y the y coordinate, 0 to 255.
+     * @param z the z coordinate, 0 to 15.
+     * @return the state id, 0 (air) for empty sections.
+     */
+    public int getStateId(final int x, final int y, final int z)
+    {
+        final int section = y >> 4;
+        if (section < 0 || section >= SECTION_COUNT)
+        {
+            return 0;
+        }
+
+        final char[] ids = sections[section];
+        if (ids == null)
+        {
+            return 0;
+        }
+        return ids[((y & 0xF) << 8) | (z << 4) | x];
+    }
+
+    /**
+     * Get the height above the highest section of the chunk which contains any blocks.
+     *
+     * @return the height, 0 if the chunk is empty.
+     */
+    public int getTopFilledHeight()
+    {
+        for (int section = SECTION_COUNT - 1; section >= 0; section--)
+        {
+            if (sections[section] != null)
+            {
+                return (section + 1) * SECTION_SIZE;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the biome id at a position inside of the chunk.
+     *
+     * @param x the x coordinate, 0 to 15.
+     * @param z the z coordinate, 0 to 15.
+     * @return the biome id.
+     */
+    public int getBiomeId(final int x, final int z)
+    {
+        return biomes[(z << 4) | x] & 0xFF;
+    }
+
+    /**
+     * Get the world time the snapshot was taken at.
+     *
+     * @return the time.
+     */
+    public long getCapturedAt()
+    {
+        return capturedAt;
+    }
+}
@@ -0,0 +1,305 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Cached walkable connectivity between the 16x16 chunk columns of a colony, used by {@link PathJobMoveToLocationHierarchical}.
+ * For every chunk the portals to its neighbours are stored, together with the paths from each entry point to the portals.
+ * Data is filled in by the pathfinding threads and invalidated per chunk when blocks change in or close to the claim of the colony, changes further
+ * away are picked up when the cached data expires.
+ */
+public final class ColonyPathGraph
+{
+    /**
+     * Amount of ticks cached data is used at most, changes which were not reported are picked up after this time.
+     */
+    private static final long CACHE_LIFETIME = 1200;
+
+    /**
+     * The graphs per dimension and colony id.
+     */
+    private static final Map<Integer, Map<Integer, ColonyPathGraph>> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * The portals per chunk.
+     */
+    private final Map<Long, ChunkPortals> portalsPerChunk = new ConcurrentHashMap<>();
+
+    /**
+     * The world time of the last block change per chunk, including changes in the neighbouring chunks.
+     */
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    /**
+     * The last world time known to the graph.
+     */
+    private volatile long lastKnownTime = 0;
+
+    /**
+     * Get the graph of a colony, creating it if necessary. Must be called on the server thread.
+     *
+     * @param colony the colony.
+     * @param world  the world of the colony.
+     * @return the graph.
+     */
+    @NotNull
+    public static ColonyPathGraph get(@NotNull final IColony colony, @NotNull final World world)
+    {
+        final ColonyPathGraph graph = graphs.computeIfAbsent(colony.getDimension(), dim -> new ConcurrentHashMap<>())
+                                        .computeIfAbsent(colony.getID(), id -> new ColonyPathGraph());
+        graph.lastKnownTime = world.getTotalWorldTime();
+        return graph;
+    }
+
+    /**
+     * Called when a block of a server world changed, invalidates the chunk of the block and its neighbours in the graphs of the colonies
+     * owning or close to the chunk.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<Integer, ColonyPathGraph> dimensionGraphs = graphs.get(world.provider.getDimension());
+        if (dimensionGraphs == null || dimensionGraphs.isEmpty() || !world.isBlockLoaded(pos))
+        {
+            return;
+        }
+
+        final Chunk chunk = world.getChunk(pos);
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null)
+        {
+            return;
+        }
+
+        final long now = world.getTotalWorldTime();
+        final ColonyPathGraph owner = dimensionGraphs.get(cap.getOwningColony());
+        if (owner != null)
+        {
+            owner.markChanged(chunk.x, chunk.z, now);
+        }
+
+        // Close colonies also route over the chunks next to their claim.
+        for (final int id : cap.getAllCloseColonies())
+        {
+            final ColonyPathGraph graph = dimensionGraphs.get(id);
+            if (graph != null && graph != owner)
+            {
+                graph.markChanged(chunk.x, chunk.z, now);
+            }
+        }
+    }
+
+    /**
+     * Called on the slow tick of a colony, removes the outdated data from its graph.
+     *
+     * @param colony the colony.
+     * @param world  the world of the colony.
+     */
+    public static void onColonyTick(@NotNull final IColony colony, @NotNull final World world)
+    {
+        final Map<Integer, ColonyPathGraph> dimensionGraphs = graphs.get(colony.getDimension());
+        final ColonyPathGraph graph = dimensionGraphs == null ? null : dimensionGraphs.get(colony.getID());
+        if (graph != null)
+        {
+            graph.prune(world.getTotalWorldTime());
+        }
+    }
+
+    /**
+     * Drop all graphs, for example when the server stops.
+     */
+    public static void clearAll()
+    {
+        graphs.clear();
+    }
+
+    /**
+     * Get the key of a chunk.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the key.
+     */
+    public static long getChunkKey(final int chunkX, final int chunkZ)
+    {
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    /**
+     * Check if data of a chunk taken from a snapshot of a certain time may be cached or read from the cache.
+     *
+     * @param chunkKey     the chunk.
+     * @param snapshotTime the time of the snapshot.
+     * @return true if no change happened in or next to the chunk since then.
+     */
+    public boolean isCacheable(final long chunkKey, final long snapshotTime)
+    {
+        return snapshotTime > changedAt.getOrDefault(chunkKey, Long.MIN_VALUE) && snapshotTime > lastKnownTime - CACHE_LIFETIME;
+    }
+
+    /**
+     * Get the cached portals of a chunk.
+     *
+     * @param chunkKey     the chunk.
+     * @param snapshotTime the time of the snapshot of the job asking.
+     * @return the portals or null if not cached or outdated.
+     */
+    @Nullable
+    public ChunkPortals getPortals(final long chunkKey, final long snapshotTime)
+    {
+        if (!isCacheable(chunkKey, snapshotTime))
+        {
+            return null;
+        }
+
+        final ChunkPortals portals = portalsPerChunk.get(chunkKey);
+        if (portals == null || !isCacheable(chunkKey, portals.builtAt))
+        {
+            return null;
+        }
+        return portals;
+    }
+
+    /**
+     * Cache the portals of a chunk, if they are still up to date.
+     *
+     * @param chunkKey the chunk.
+     * @param portals  the portals.
+     */
+    public void putPortals(final long chunkKey, @NotNull final ChunkPortals portals)
+    {
+        if (isCacheable(chunkKey, portals.builtAt))
+        {
+            portalsPerChunk.put(chunkKey, portals);
+        }
+    }
+
+    /**
+     * Record a block change in a chunk, which also affects the portals of the neighbouring chunks.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @param now    the current world time.
+     */
+    private void markChanged(final int chunkX, final int chunkZ, final long now)
+    {
+        lastKnownTime = now;
+        changedAt.put(getChunkKey(chunkX, chunkZ), now);
+        changedAt.put(getChunkKey(chunkX + 1, chunkZ), now);
+        changedAt.put(getChunkKey(chunkX - 1, chunkZ), now);
+        changedAt.put(getChunkKey(chunkX, chunkZ + 1), now);
+        changedAt.put(getChunkKey(chunkX, chunkZ - 1), now);
+    }
+
+    /**
+     * Remove the changes and portals which are older than the cache lifetime, they are not used anymore.
+     *
+     * @param now the current world time.
+     */
+    private void prune(final long now)
+    {
+        lastKnownTime = now;
+        changedAt.values().removeIf(time -> time < now - CACHE_LIFETIME);
+        portalsPerChunk.values().removeIf(portals -> portals.builtAt < now - CACHE_LIFETIME);
+    }
+
+    /**
+     * The portals of a chunk: standing positions at the border of the chunk from which the neighbouring chunk can be entered.
+     */
+    public static final class ChunkPortals
+    {
+        /**
+         * The world time of the snapshot the portals were calculated from.
+         */
+        private final long builtAt;
+
+        /**
+         * The exit positions inside of the chunk.
+         */
+        private final List<BlockPos> exits;
+
+        /**
+         * The positions in the neighbouring chunk reached from the exit with the same index.
+         */
+        private final List<BlockPos> targets;
+
+        /**
+         * The paths from an entry position to each exit, null where an exit can not be reached.
+         */
+        private final Map<Long, Path[]> pathsFromEntry = new ConcurrentHashMap<>();
+
+        /**
+         * Create the portals of a chunk.
+         *
+         * @param builtAt the world time of the snapshot the portals were calculated from.
+         * @param exits   the exit positions inside of the chunk.
+         * @param targets the positions in the neighbouring chunk reached from each exit.
+         */
+        public ChunkPortals(final long builtAt, @NotNull final List<BlockPos> exits, @NotNull final List<BlockPos> targets)
+        {
+            this.builtAt = builtAt;
+            this.exits = exits;
+            this.targets = targets;
+        }
+
+        /**
+         * Get the exit positions inside of the chunk.
+         *
+         * @return the positions.
+         */
+        @NotNull
+        public List<BlockPos> getExits()
+        {
+            return exits;
+        }
+
+        /**
+         * Get the positions in the neighbouring chunks reached from each exit.
+         *
+         * @return the positions.
+         */
+        @NotNull
+        public List<BlockPos> getTargets()
+        {
+            return targets;
+        }
+
+        /**
+         * Get the cached paths from an entry position to each exit.
+         *
+         * @param entry the entry position.
+         * @return the paths or null if not calculated yet.
+         */
+        @Nullable
+        public Path[] getPathsFromEntry(@NotNull final BlockPos entry)
+        {
+            return pathsFromEntry.get(entry.toLong());
+        }
+
+        /**
+         * Cache the paths from an entry position to each exit.
+         *
+         * @param entry the entry position.
+         * @param paths the paths, null where an exit can not be reached.
+         */
+        public void putPathsFromEntry(@NotNull final BlockPos entry, @NotNull final Path[] paths)
+        {
+            pathsFromEntry.put(entry.toLong(), paths);
+        }
+    }
+}
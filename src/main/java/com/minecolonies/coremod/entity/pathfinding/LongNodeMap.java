@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive long keys to nodes.
+ * Avoids boxing the keys and allocating an entry per node, nodes can not be removed individually.
+ */
+public class LongNodeMap
+{
+    /**
+     * The default capacity of the map, has to be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Multiplier used to spread the keys over the table (golden ratio).
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The keys of the map, only valid where a value is set.
+     */
+    private long[] keys;
+
+    /**
+     * The values of the map, null marks an empty slot.
+     */
+    private Node[] values;
+
+    /**
+     * The amount of entries in the map.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new map with the default capacity.
+     */
+    public LongNodeMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new map.
+     *
+     * @param capacity the initial capacity, rounded up to a power of two.
+     */
+    public LongNodeMap(final int capacity)
+    {
+        final int tableSize = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        keys = new long[tableSize];
+        values = new Node[tableSize];
+    }
+
+    /**
+     * Get the node stored at a key.
+     *
+     * @param key the key.
+     * @return the node or null.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        final int mask = values.length - 1;
+        int index = indexFor(key, mask);
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node at a key, replacing any previous node.
+     *
+     * @param key  the key.
+     * @param node the node.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        final int mask = values.length - 1;
+        int index = indexFor(key, mask);
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                values[index] = node;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = node;
+        size++;
+
+        // Keep the load factor at 0.5 to keep the probe sequences short.
+        if (size * 2 > values.length)
+        {
+            resize(values.length << 1);
+        }
+    }
+
+    /**
+     * Get the amount of entries in the map.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all entries, keeping the allocated table for reuse.
+     */
+    public void clear()
+    {
+        if (size > 0)
+        {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Rehash all entries into a table of a new size.
+     *
+     * @param newSize the new size, a power of two.
+     */
+    private void resize(final int newSize)
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        keys = new long[newSize];
+        values = new Node[newSize];
+
+        final int mask = newSize - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int index = indexFor(oldKeys[i], mask);
+                while (values[index] != null)
+                {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Calculate the first slot to probe for a key.
+     *
+     * @param key  the key.
+     * @param mask the table size minus one.
+     * @return the slot.
+     */
+    private static int indexFor(final long key, final int mask)
+    {
+        final long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.mobs.pirates.AbstractEntityPirate;
@@ -23,6 +24,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -169,9 +171,38 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
-          dest, speed);
+        return setPathJob(createMoveToLocationJob(start, dest), dest, speed);
+    }
+
+    /**
+     * Create the job to move to a location.
+     * Long trips of citizens inside of their colony are planned over the chunk graph of the colony first.
+     *
+     * @param start the start position.
+     * @param dest  the destination.
+     * @return the job.
+     */
+    @NotNull
+    private AbstractPathJob createMoveToLocationJob(@NotNull final BlockPos start, @NotNull final BlockPos dest)
+    {
+        final World world = CompatibilityUtils.getWorldFromEntity(ourEntity);
+        final int minDistance = Configurations.pathfinding.pathfindingHierarchicalDistance;
+        if (minDistance > 0 && ourEntity instanceof AbstractEntityCitizen && BlockPosUtil.getDistance2D(start, dest) >= minDistance)
+        {
+            final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+            if (colony != null && colony.isCoordInColony(world, start) && colony.isCoordInColony(world, dest))
+            {
+                return new PathJobMoveToLocationHierarchical(world,
+                  start,
+                  dest,
+                  (int) getPathSearchRange(),
+                  ourEntity,
+                  ColonyPathGraph.get(colony, world),
+                  new HashSet<>(colony.getLoadedChunks()));
+            }
+        }
+
+        return new PathJobMoveToLocation(world, start, dest, (int) getPathSearchRange(), ourEntity);
     }
 
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speed)
@@ -304,6 +335,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     {
         if (calculationFuture.get() == null)
         {
+            // No path, for example because the job was rejected, don't let the result look like it is still computing.
+            if (pathResult != null && pathResult.isComputing())
+            {
+                pathResult.setStatus(PathFindingStatus.CANCELLED);
+            }
             calculationFuture = null;
             return true;
         }
@@ -20,12 +20,12 @@ public class Node implements Comparable<Node>
      * The position of the node.
      */
     @NotNull
-    public final BlockPos pos;
+    public BlockPos pos;
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -81,6 +81,11 @@ public class Node implements Comparable<Node>
      */
     private boolean swimming = false;
 
+    /**
+     * The index of the node in the open set heap, -1 if it is not in the heap.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -102,6 +107,20 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        init(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * Reset all values of the node, used to reuse nodes of a {@link NodeArena}.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     */
+    void init(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
         this.pos = pos;
@@ -110,6 +129,12 @@ public class Node implements Comparable<Node>
         this.heuristic = heuristic;
         this.score = score;
         this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.heapIndex = -1;
     }
 
     @Override
@@ -333,4 +358,24 @@ public class Node implements Comparable<Node>
     {
         this.counterAdded = counterAdded;
     }
+
+    /**
+     * Get the index of the node in the open set heap.
+     *
+     * @return the index or -1 if not in the heap.
+     */
+    int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Set the index of the node in the open set heap.
+     *
+     * @param heapIndex the index or -1 if removed from the heap.
+     */
+    void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
@@ -0,0 +1,133 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per thread storage of the data structures of a path search, reused between the jobs running on that thread.
+ * The nodes handed out are only valid until the next {@link #reset()}, they must not escape the search.
+ */
+public final class NodeArena
+{
+    /**
+     * Amount of pooled nodes above which the pool is trimmed on reset, so one huge search does not pin memory forever.
+     */
+    private static final int MAX_RETAINED_NODES = 32768;
+
+    /**
+     * The arena of each pathfinding thread.
+     */
+    private static final ThreadLocal<NodeArena> ARENAS = ThreadLocal.withInitial(NodeArena::new);
+
+    /**
+     * All nodes allocated by this arena.
+     */
+    private final List<Node> pool = new ArrayList<>();
+
+    /**
+     * The amount of pooled nodes in use by the current search.
+     */
+    private int used = 0;
+
+    /**
+     * The visited nodes of the current search.
+     */
+    private final LongNodeMap visited = new LongNodeMap();
+
+    /**
+     * The open nodes of the current search.
+     */
+    private final NodeHeap open = new NodeHeap();
+
+    /**
+     * Private constructor, use {@link #get()}.
+     */
+    private NodeArena()
+    {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Get the arena of the current thread, reset for a new search.
+     *
+     * @return the arena.
+     */
+    @NotNull
+    public static NodeArena get()
+    {
+        final NodeArena arena = ARENAS.get();
+        arena.reset();
+        return arena;
+    }
+
+    /**
+     * Get a node from the pool, or allocate a new one when all pooled nodes are in use.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    public Node obtain(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        if (used < pool.size())
+        {
+            final Node node = pool.get(used++);
+            node.init(parent, pos, cost, heuristic, score);
+            return node;
+        }
+
+        final Node node = new Node(parent, pos, cost, heuristic, score);
+        pool.add(node);
+        used++;
+        return node;
+    }
+
+    /**
+     * Get the visited nodes map of the current search.
+     *
+     * @return the map.
+     */
+    @NotNull
+    public LongNodeMap getVisited()
+    {
+        return visited;
+    }
+
+    /**
+     * Get the open nodes heap of the current search.
+     *
+     * @return the heap.
+     */
+    @NotNull
+    public NodeHeap getOpen()
+    {
+        return open;
+    }
+
+    /**
+     * Release all nodes and clear the data structures for the next search.
+     */
+    public void reset()
+    {
+        open.clear();
+        visited.clear();
+        for (int i = 0; i < used; i++)
+        {
+            pool.get(i).parent = null;
+        }
+        used = 0;
+
+        if (pool.size() > MAX_RETAINED_NODES)
+        {
+            pool.subList(MAX_RETAINED_NODES, pool.size()).clear();
+        }
+    }
+}
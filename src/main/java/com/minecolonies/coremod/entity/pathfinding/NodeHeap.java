@@ -0,0 +1,218 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of nodes which stores the index of each node inside the node itself.
+ * This allows checking membership and lowering the score of a queued node in O(log n),
+ * instead of the linear removal and re-insertion a {@link java.util.PriorityQueue} needs.
+ */
+public class NodeHeap
+{
+    /**
+     * The default capacity of the heap.
+     */
+    private static final int DEFAULT_CAPACITY = 512;
+
+    /**
+     * The nodes of the heap.
+     */
+    private Node[] nodes;
+
+    /**
+     * The amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new heap with the default capacity.
+     */
+    public NodeHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the initial capacity.
+     */
+    public NodeHeap(final int capacity)
+    {
+        nodes = new Node[Math.max(1, capacity)];
+    }
+
+    /**
+     * Add a node to the heap, if the node is already queued its position is updated instead.
+     *
+     * @param node the node.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (contains(node))
+        {
+            update(node);
+            return;
+        }
+
+        if (size == nodes.length)
+        {
+            nodes = Arrays.copyOf(nodes, size << 1);
+        }
+
+        nodes[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(node.getHeapIndex());
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if the heap is empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node first = nodes[0];
+        size--;
+        if (size > 0)
+        {
+            nodes[0] = nodes[size];
+            nodes[0].setHeapIndex(0);
+            siftDown(0);
+        }
+        nodes[size] = null;
+        first.setHeapIndex(-1);
+        return first;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node was lowered.
+     *
+     * @param node the node.
+     */
+    public void decreaseKey(@NotNull final Node node)
+    {
+        siftUp(node.getHeapIndex());
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node was changed in either direction.
+     *
+     * @param node the node.
+     */
+    public void update(@NotNull final Node node)
+    {
+        siftDown(siftUp(node.getHeapIndex()));
+    }
+
+    /**
+     * Check if a node is queued in this heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && nodes[index] == node;
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of queued nodes.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, keeping the allocated array for reuse.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            nodes[i].setHeapIndex(-1);
+            nodes[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Move a node up until its parent is not worse than it.
+     *
+     * @param index the index of the node.
+     * @return the final index of the node.
+     */
+    private int siftUp(final int index)
+    {
+        final Node node = nodes[index];
+        int current = index;
+        while (current > 0)
+        {
+            final int parent = (current - 1) >>> 1;
+            if (node.compareTo(nodes[parent]) >= 0)
+            {
+                break;
+            }
+            nodes[current] = nodes[parent];
+            nodes[current].setHeapIndex(current);
+            current = parent;
+        }
+        nodes[current] = node;
+        node.setHeapIndex(current);
+        return current;
+    }
+
+    /**
+     * Move a node down until none of its children is better than it.
+     *
+     * @param index the index of the node.
+     */
+    private void siftDown(final int index)
+    {
+        final Node node = nodes[index];
+        int current = index;
+        final int half = size >>> 1;
+        while (current < half)
+        {
+            int child = (current << 1) + 1;
+            final int right = child + 1;
+            if (right < size && nodes[right].compareTo(nodes[child]) < 0)
+            {
+                child = right;
+            }
+            if (node.compareTo(nodes[child]) <= 0)
+            {
+                break;
+            }
+            nodes[current] = nodes[child];
+            nodes[current].setHeapIndex(current);
+            current = child;
+        }
+        nodes[current] = node;
+        node.setHeapIndex(current);
+    }
+}
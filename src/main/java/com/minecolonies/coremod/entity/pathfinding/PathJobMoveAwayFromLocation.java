@@ -119,6 +119,18 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
         return super.search();
     }
 
+    /**
+     * Moving away is used to flee, which has to be calculated first.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.HIGH;
+    }
+
     /**
      * For MoveAwayFromLocation we want our heuristic to weight.
      *
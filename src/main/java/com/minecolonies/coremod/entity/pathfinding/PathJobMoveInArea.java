@@ -0,0 +1,78 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathResult;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Job that finds an exact path between two positions without leaving an area, on the snapshot of another job.
+ * Runs synchronously on the pathfinding thread of the job using it.
+ */
+public class PathJobMoveInArea extends AbstractPathJob
+{
+    /**
+     * Tie breaker of the heuristic, see {@link PathJobMoveToLocation}.
+     */
+    private static final double TIE_BREAKER = 1.001D;
+
+    /**
+     * The position to path to.
+     */
+    @NotNull
+    private final BlockPos destination;
+
+    /**
+     * Prepares the job.
+     *
+     * @param snapshot         the snapshot of the world.
+     * @param start            the start position.
+     * @param end              the position to path to.
+     * @param startRestriction start of the area.
+     * @param endRestriction   end of the area.
+     * @param entity           the entity.
+     */
+    public PathJobMoveInArea(
+      @NotNull final WorldSnapshot snapshot,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final BlockPos startRestriction,
+      @NotNull final BlockPos endRestriction,
+      final EntityLivingBase entity)
+    {
+        super(snapshot, start, startRestriction, endRestriction, new PathResult(), entity);
+        this.destination = end;
+    }
+
+    /**
+     * Run the search on the current thread.
+     *
+     * @return the path or null if the destination can not be reached.
+     */
+    @Nullable
+    public Path findPath()
+    {
+        final Path path = search();
+        return path != null && getResult().isPathReachingDestination() ? path : null;
+    }
+
+    @Override
+    protected double computeHeuristic(@NotNull final BlockPos pos)
+    {
+        return (Math.abs(pos.getX() - destination.getX()) + Math.abs(pos.getY() - destination.getY()) + Math.abs(pos.getZ() - destination.getZ())) * TIE_BREAKER;
+    }
+
+    @Override
+    protected boolean isAtDestination(@NotNull final Node n)
+    {
+        return n.pos.getX() == destination.getX() && n.pos.getY() == destination.getY() && n.pos.getZ() == destination.getZ();
+    }
+
+    @Override
+    protected double getNodeResultScore(@NotNull final Node n)
+    {
+        return -destination.distanceSq(n.pos.getX(), n.pos.getY(), n.pos.getZ());
+    }
+}
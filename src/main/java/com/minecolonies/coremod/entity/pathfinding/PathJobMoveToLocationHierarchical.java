@@ -0,0 +1,488 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Job that moves to a far location inside of a colony.
+ * First plans a route over the portals between the chunks of the colony, which are cached in the {@link ColonyPathGraph},
+ * and only runs a fine A* search inside of the start and destination chunks.
+ * The route stays inside of the loaded chunks of the colony, when there is no such route it falls back to the search of
+ * {@link PathJobMoveToLocation}.
+ */
+public class PathJobMoveToLocationHierarchical extends PathJobMoveToLocation
+{
+    /**
+     * Size of a chunk.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    /**
+     * Max amount of chunk entries to expand in the route search.
+     */
+    private static final int MAX_ROUTE_NODES = 1024;
+
+    /**
+     * Lowest y position checked for portals.
+     */
+    private static final int MIN_PORTAL_Y = 1;
+
+    /**
+     * Highest y position checked for portals.
+     */
+    private static final int MAX_PORTAL_Y = 254;
+
+    /**
+     * The directions in which chunks are connected.
+     */
+    private static final EnumFacing[] DIRECTIONS = EnumFacing.HORIZONTALS;
+
+    /**
+     * The graph of the colony.
+     */
+    @NotNull
+    private final ColonyPathGraph graph;
+
+    /**
+     * The position to path to.
+     */
+    @NotNull
+    private final BlockPos destination;
+
+    /**
+     * The loaded chunks of the colony, the route does not leave them.
+     */
+    @NotNull
+    private final Set<Long> colonyChunks;
+
+    /**
+     * Prepares the PathJob for the path finding system.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param entity the entity.
+     * @param graph        the path graph of the colony both positions are in.
+     * @param colonyChunks the loaded chunks of the colony, see {@link ColonyPathGraph#getChunkKey(int, int)}.
+     */
+    public PathJobMoveToLocationHierarchical(
+      final World world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      final int range,
+      final EntityLivingBase entity,
+      @NotNull final ColonyPathGraph graph,
+      @NotNull final Set<Long> colonyChunks)
+    {
+        super(world, start, end, range, entity);
+        this.destination = new BlockPos(end);
+        this.graph = graph;
+        this.colonyChunks = colonyChunks;
+    }
+
+    @Nullable
+    @Override
+    protected Path search()
+    {
+        if (!debugDrawEnabled)
+        {
+            final Path path = searchRoute();
+            if (path != null)
+            {
+                result.setPathReachesDestination(true);
+                return path;
+            }
+
+            if (Configurations.pathfinding.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+            {
+                Log.getLogger().info(String.format("No chunk route from [%d,%d,%d] to [%d,%d,%d], searching directly",
+                  start.getX(), start.getY(), start.getZ(), destination.getX(), destination.getY(), destination.getZ()));
+            }
+        }
+
+        return super.search();
+    }
+
+    /**
+     * Search a route over the chunk portals and turn it into a path.
+     *
+     * @return the path or null if no route was found.
+     */
+    @Nullable
+    private Path searchRoute()
+    {
+        final long destinationChunk = getChunkKey(destination);
+        if (!colonyChunks.contains(getChunkKey(start)) || !colonyChunks.contains(destinationChunk))
+        {
+            return null;
+        }
+
+        final Queue<RouteNode> open = new PriorityQueue<>();
+        final Set<Long> closed = new HashSet<>();
+        open.add(new RouteNode(start, null, null, null, 0, computeHeuristic(start), false));
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < MAX_ROUTE_NODES)
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final RouteNode node = open.poll();
+            if (node.reachesDestination)
+            {
+                return buildPath(node);
+            }
+
+            if (!closed.add(node.pos.toLong()))
+            {
+                continue;
+            }
+            expanded++;
+
+            final long chunkKey = getChunkKey(node.pos);
+            if (chunkKey == destinationChunk)
+            {
+                final Path segment = findPathInChunk(node.pos, destination);
+                if (segment != null)
+                {
+                    final double cost = node.cost + segment.getCurrentPathLength();
+                    open.add(new RouteNode(destination, node, segment, null, cost, cost, true));
+                }
+            }
+
+            final ColonyPathGraph.ChunkPortals portals = getPortals(chunkKey);
+            final Path[] segments = getPathsToExits(chunkKey, portals, node.pos, node.parent == null);
+            for (int i = 0; i < segments.length; i++)
+            {
+                if (segments[i] == null)
+                {
+                    continue;
+                }
+
+                final BlockPos target = portals.getTargets().get(i);
+                if (closed.contains(target.toLong()) || !colonyChunks.contains(getChunkKey(target)))
+                {
+                    continue;
+                }
+
+                final double cost = node.cost + segments[i].getCurrentPathLength() + 1;
+                open.add(new RouteNode(target, node, segments[i], target, cost, cost + computeHeuristic(target), false));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the portals of a chunk, from the graph or by calculating them.
+     *
+     * @param chunkKey the chunk.
+     * @return the portals.
+     */
+    @NotNull
+    private ColonyPathGraph.ChunkPortals getPortals(final long chunkKey)
+    {
+        final long snapshotTime = getSnapshot().getCapturedAt();
+        ColonyPathGraph.ChunkPortals portals = graph.getPortals(chunkKey, snapshotTime);
+        if (portals == null)
+        {
+            portals = calculatePortals((int) chunkKey, (int) (chunkKey >> 32), snapshotTime);
+            graph.putPortals(chunkKey, portals);
+        }
+        return portals;
+    }
+
+    /**
+     * Get the paths from a position inside of a chunk to all of its exits.
+     * Paths from entry positions are cached, paths from the start position are not.
+     *
+     * @param chunkKey the chunk.
+     * @param portals  the portals of the chunk.
+     * @param from     the position.
+     * @param isStart  if the position is the start of the job.
+     * @return the paths, null where an exit can not be reached.
+     */
+    @NotNull
+    private Path[] getPathsToExits(final long chunkKey, @NotNull final ColonyPathGraph.ChunkPortals portals, @NotNull final BlockPos from, final boolean isStart)
+    {
+        final boolean cacheable = !isStart && graph.isCacheable(chunkKey, getSnapshot().getCapturedAt());
+        if (cacheable)
+        {
+            final Path[] cached = portals.getPathsFromEntry(from);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        final List<BlockPos> exits = portals.getExits();
+        final Path[] paths = new Path[exits.size()];
+        for (int i = 0; i < paths.length; i++)
+        {
+            paths[i] = findPathInChunk(from, exits.get(i));
+        }
+
+        if (cacheable)
+        {
+            portals.putPathsFromEntry(from, paths);
+        }
+        return paths;
+    }
+
+    /**
+     * Find a path between two positions of the same chunk without leaving the chunk.
+     *
+     * @param from the start position.
+     * @param to   the end position.
+     * @return the path or null if not reachable.
+     */
+    @Nullable
+    private Path findPathInChunk(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        final int minX = from.getX() & ~(CHUNK_SIZE - 1);
+        final int minZ = from.getZ() & ~(CHUNK_SIZE - 1);
+        return new PathJobMoveInArea(getSnapshot(),
+          from,
+          to,
+          new BlockPos(minX, 0, minZ),
+          new BlockPos(minX + CHUNK_SIZE - 1, 0, minZ + CHUNK_SIZE - 1),
+          getEntity()).findPath();
+    }
+
+    /**
+     * Calculate the portals of a chunk: for each border to another chunk of the colony, the middle of every run of positions
+     * at the same height from which the neighbouring chunk can be entered.
+     *
+     * @param chunkX       the chunk x coordinate.
+     * @param chunkZ       the chunk z coordinate.
+     * @param snapshotTime the time of the snapshot.
+     * @return the portals.
+     */
+    @NotNull
+    private ColonyPathGraph.ChunkPortals calculatePortals(final int chunkX, final int chunkZ, final long snapshotTime)
+    {
+        final List<BlockPos> exits = new ArrayList<>();
+        final List<BlockPos> targets = new ArrayList<>();
+
+        for (final EnumFacing direction : DIRECTIONS)
+        {
+            if (!colonyChunks.contains(ColonyPathGraph.getChunkKey(chunkX + direction.getXOffset(), chunkZ + direction.getZOffset())))
+            {
+                continue;
+            }
+
+            // Open runs per height of the exit position, with the offset they started at.
+            final Map<Integer, Integer> runStarts = new HashMap<>();
+            final List<Map<Integer, BlockPos>> crossings = new ArrayList<>();
+
+            for (int offset = 0; offset <= CHUNK_SIZE; offset++)
+            {
+                final Map<Integer, BlockPos> here = offset < CHUNK_SIZE ? findCrossings(chunkX, chunkZ, direction, offset) : Collections.emptyMap();
+                crossings.add(here);
+
+                final Iterator<Map.Entry<Integer, Integer>> iterator = runStarts.entrySet().iterator();
+                while (iterator.hasNext())
+                {
+                    final Map.Entry<Integer, Integer> run = iterator.next();
+                    if (!here.containsKey(run.getKey()))
+                    {
+                        final int middle = (run.getValue() + offset - 1) / 2;
+                        final BlockPos exit = getBorderPos(chunkX, chunkZ, direction, middle, run.getKey());
+                        exits.add(exit);
+                        targets.add(crossings.get(middle).get(run.getKey()));
+                        iterator.remove();
+                    }
+                }
+
+                for (final Integer y : here.keySet())
+                {
+                    runStarts.putIfAbsent(y, offset);
+                }
+            }
+        }
+
+        return new ColonyPathGraph.ChunkPortals(snapshotTime, exits, targets);
+    }
+
+    /**
+     * Find all positions at one border column of a chunk from which the neighbouring chunk can be entered.
+     *
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @param direction the border.
+     * @param offset    the position along the border.
+     * @return the reached positions in the neighbouring chunk per height of the exit position.
+     */
+    @NotNull
+    private Map<Integer, BlockPos> findCrossings(final int chunkX, final int chunkZ, @NotNull final EnumFacing direction, final int offset)
+    {
+        final Map<Integer, BlockPos> crossings = new HashMap<>();
+        // Nothing can be stood on above the highest blocks of the chunk.
+        final int maxY = Math.min(MAX_PORTAL_Y, getSnapshot().getTopFilledHeight(chunkX * CHUNK_SIZE, chunkZ * CHUNK_SIZE));
+        for (int y = MIN_PORTAL_Y; y <= maxY; y++)
+        {
+            final BlockPos exit = getBorderPos(chunkX, chunkZ, direction, offset, y);
+            if (!isPassable(exit) || getGroundHeight(null, exit) != y)
+            {
+                continue;
+            }
+
+            final Node exitNode = new Node(exit, 0);
+            final int targetY = getGroundHeight(exitNode, exit.offset(direction));
+            if (targetY >= 0)
+            {
+                crossings.put(y, new BlockPos(exit.getX() + direction.getXOffset(), targetY, exit.getZ() + direction.getZOffset()));
+            }
+        }
+        return crossings;
+    }
+
+    /**
+     * Get a position at the border of a chunk.
+     *
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @param direction the border.
+     * @param offset    the position along the border.
+     * @param y         the height.
+     * @return the position.
+     */
+    @NotNull
+    private static BlockPos getBorderPos(final int chunkX, final int chunkZ, @NotNull final EnumFacing direction, final int offset, final int y)
+    {
+        final int baseX = chunkX * CHUNK_SIZE;
+        final int baseZ = chunkZ * CHUNK_SIZE;
+        switch (direction)
+        {
+            case NORTH:
+                return new BlockPos(baseX + offset, y, baseZ);
+            case SOUTH:
+                return new BlockPos(baseX + offset, y, baseZ + CHUNK_SIZE - 1);
+            case WEST:
+                return new BlockPos(baseX, y, baseZ + offset);
+            default:
+                return new BlockPos(baseX + CHUNK_SIZE - 1, y, baseZ + offset);
+        }
+    }
+
+    /**
+     * Get the chunk key of a position.
+     *
+     * @param pos the position.
+     * @return the key.
+     */
+    private static long getChunkKey(@NotNull final BlockPos pos)
+    {
+        return ColonyPathGraph.getChunkKey(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Turn a route into a path by joining its segments.
+     *
+     * @param last the last node of the route.
+     * @return the path.
+     */
+    @NotNull
+    private static Path buildPath(@NotNull final RouteNode last)
+    {
+        final Deque<RouteNode> route = new ArrayDeque<>();
+        for (RouteNode node = last; node.parent != null; node = node.parent)
+        {
+            route.addFirst(node);
+        }
+
+        final List<PathPoint> points = new ArrayList<>();
+        for (final RouteNode node : route)
+        {
+            for (int i = 0; i < node.segment.getCurrentPathLength(); i++)
+            {
+                points.add(node.segment.getPathPointFromIndex(i));
+            }
+
+            if (node.crossing != null)
+            {
+                points.add(new PathPointExtended(node.crossing));
+            }
+        }
+
+        return new Path(points.toArray(new PathPoint[0]));
+    }
+
+    /**
+     * A position in the route search, either the start, the entry into a chunk or the destination.
+     */
+    private static final class RouteNode implements Comparable<RouteNode>
+    {
+        /**
+         * The position.
+         */
+        private final BlockPos pos;
+
+        /**
+         * The previous node of the route.
+         */
+        private final RouteNode parent;
+
+        /**
+         * The path from the previous node to the exit leading here, or to the destination.
+         */
+        private final Path segment;
+
+        /**
+         * The position in this chunk reached from the exit, null for the destination.
+         */
+        private final BlockPos crossing;
+
+        /**
+         * The length of the route up to here.
+         */
+        private final double cost;
+
+        /**
+         * The cost plus the heuristic.
+         */
+        private final double score;
+
+        /**
+         * If this is the destination.
+         */
+        private final boolean reachesDestination;
+
+        private RouteNode(
+          final BlockPos pos,
+          final RouteNode parent,
+          final Path segment,
+          final BlockPos crossing,
+          final double cost,
+          final double score,
+          final boolean reachesDestination)
+        {
+            this.pos = pos;
+            this.parent = parent;
+            this.segment = segment;
+            this.crossing = crossing;
+            this.cost = cost;
+            this.score = score;
+            this.reachesDestination = reachesDestination;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RouteNode other)
+        {
+            return Double.compare(score, other.score);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priorities of pathfinding jobs, jobs with a higher priority are calculated first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Combat and fleeing, guards and raiders.
+     */
+    HIGH,
+
+    /**
+     * Workers going about their job.
+     */
+    NORMAL,
+
+    /**
+     * Idle citizens wandering around.
+     */
+    LOW
+}
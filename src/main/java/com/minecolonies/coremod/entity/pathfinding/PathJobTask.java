@@ -0,0 +1,122 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathFindingStatus;
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.FutureTask;
+
+/**
+ * A queued pathfinding job, ordered by priority and then by the order it was queued in.
+ */
+public class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+{
+    /**
+     * The job.
+     */
+    private final AbstractPathJob job;
+
+    /**
+     * The priority of the job.
+     */
+    private final PathJobPriority priority;
+
+    /**
+     * The position of the job in the order of all queued jobs.
+     */
+    private final long sequence;
+
+    /**
+     * The id of the entity the job belongs to, or -1 if none.
+     */
+    private final int entityId;
+
+    /**
+     * The time the job was queued at, in nanoseconds.
+     */
+    private final long queuedAt;
+
+    /**
+     * Create a new task for a job.
+     *
+     * @param job      the job.
+     * @param priority the priority of the job.
+     * @param sequence the position of the job in the order of all queued jobs.
+     * @param entityId the id of the entity the job belongs to, or -1 if none.
+     */
+    public PathJobTask(@NotNull final AbstractPathJob job, @NotNull final PathJobPriority priority, final long sequence, final int entityId)
+    {
+        super(job);
+        this.job = job;
+        this.priority = priority;
+        this.sequence = sequence;
+        this.entityId = entityId;
+        this.queuedAt = System.nanoTime();
+    }
+
+    @Override
+    public void run()
+    {
+        if (!isDone())
+        {
+            final long start = System.nanoTime();
+            Pathfinding.onJobStarted(start - queuedAt);
+            super.run();
+            Pathfinding.onJobFinished(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning)
+    {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled)
+        {
+            Pathfinding.onJobCancelled(this);
+        }
+        return cancelled;
+    }
+
+    @Override
+    protected void done()
+    {
+        Pathfinding.onJobDone(this);
+    }
+
+    /**
+     * Complete the job without a path, for jobs which are rejected before running.
+     * The result of the job is cancelled, since the job never gets to set it.
+     */
+    public void reject()
+    {
+        job.getResult().setStatus(PathFindingStatus.CANCELLED);
+        set(null);
+    }
+
+    /**
+     * Get the priority of the job.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Get the id of the entity the job belongs to.
+     *
+     * @return the id or -1 if none.
+     */
+    public int getEntityId()
+    {
+        return entityId;
+    }
+
+    @Override
+    public int compareTo(@NotNull final PathJobTask other)
+    {
+        final int priorityCompare = priority.compareTo(other.priority);
+        return priorityCompare != 0 ? priorityCompare : Long.compare(sequence, other.sequence);
+    }
+}
@@ -17,21 +17,52 @@ import org.jetbrains.annotations.NotNull;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    /**
+     * Weight of a new sample in the latency averages.
+     */
+    private static final double AVERAGE_WEIGHT = 0.05D;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private static final BlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
     private static ThreadPoolExecutor executor;
 
-    static
-    {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
-    }
+    /**
+     * The queued or running job per entity id, a new job of an entity replaces its previous one.
+     */
+    private static final Map<Integer, PathJobTask> jobsPerEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Gives every job its position in the queue order.
+     */
+    private static final AtomicLong jobSequence = new AtomicLong();
+
+    /**
+     * Statistics.
+     */
+    private static final AtomicLong completedJobs = new AtomicLong();
+    private static final AtomicLong replacedJobs  = new AtomicLong();
+    private static final AtomicLong rejectedJobs  = new AtomicLong();
+    private static volatile double averageWaitMillis = 0;
+    private static volatile double averageRunMillis  = 0;
+
+    /**
+     * Guards the updates of the averages, which are made from all worker threads.
+     */
+    private static final Object averagesLock = new Object();
 
     private Pathfinding()
     {
@@ -41,35 +72,203 @@ public final class Pathfinding
     /**
      * Creates a new thread pool for pathfinding jobs
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static synchronized ThreadPoolExecutor getExecutor()
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+            final int threads = Math.max(1, Configurations.pathfinding.pathfindingMaxThreadCount);
+            executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, jobQueue, runnable -> {
+                final Thread thread = new Thread(runnable, "Minecolonies Pathfinding Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
         }
         return executor;
     }
 
     /**
      * Add a job to the queue for processing.
+     * A job of an entity which still has a job queued or running replaces it.
+     * When the queue is full, the job is rejected unless it has a higher priority than the last queued job, which is rejected instead.
      *
      * @param job PathJob
      * @return a Future containing the Path
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return getExecutor().submit(job);
+        final int entityId = job.getEntity() == null ? -1 : job.getEntity().getEntityId();
+        final PathJobTask task = new PathJobTask(job, job.getPriority(), jobSequence.getAndIncrement(), entityId);
+
+        if (entityId != -1)
+        {
+            final PathJobTask previous = jobsPerEntity.put(entityId, task);
+            if (previous != null && previous.cancel(true))
+            {
+                replacedJobs.incrementAndGet();
+            }
+        }
+
+        if (jobQueue.size() >= Configurations.pathfinding.pathfindingMaxQueuedJobs && !rejectLastJob(task))
+        {
+            rejectedJobs.incrementAndGet();
+            task.reject();
+            return task;
+        }
+
+        getExecutor().execute(task);
+        return task;
+    }
+
+    /**
+     * Reject the queued job with the lowest priority to make room for a new one, if the new one has a higher priority.
+     *
+     * @param task the new job.
+     * @return true if a job was rejected.
+     */
+    private static boolean rejectLastJob(@NotNull final PathJobTask task)
+    {
+        PathJobTask last = null;
+        for (final Runnable runnable : jobQueue)
+        {
+            if (runnable instanceof PathJobTask && (last == null || ((PathJobTask) runnable).compareTo(last) > 0))
+            {
+                last = (PathJobTask) runnable;
+            }
+        }
+
+        if (last == null || last.getPriority().compareTo(task.getPriority()) <= 0 || !jobQueue.remove(last))
+        {
+            return false;
+        }
+
+        rejectedJobs.incrementAndGet();
+        last.reject();
+        return true;
+    }
+
+    /**
+     * Called when a job starts running.
+     *
+     * @param waitNanos the time the job waited in the queue.
+     */
+    static void onJobStarted(final long waitNanos)
+    {
+        synchronized (averagesLock)
+        {
+            averageWaitMillis += (waitNanos / NANOS_PER_MILLI - averageWaitMillis) * AVERAGE_WEIGHT;
+        }
+    }
+
+    /**
+     * Called when a job finished running.
+     *
+     * @param runNanos the time the job ran.
+     */
+    static void onJobFinished(final long runNanos)
+    {
+        completedJobs.incrementAndGet();
+        synchronized (averagesLock)
+        {
+            averageRunMillis += (runNanos / NANOS_PER_MILLI - averageRunMillis) * AVERAGE_WEIGHT;
+        }
+    }
+
+    /**
+     * Called when a job got cancelled, removes it from the queue if it didn't run yet.
+     *
+     * @param task the job.
+     */
+    static void onJobCancelled(@NotNull final PathJobTask task)
+    {
+        jobQueue.remove(task);
+    }
+
+    /**
+     * Called when a job completed in any way.
+     *
+     * @param task the job.
+     */
+    static void onJobDone(@NotNull final PathJobTask task)
+    {
+        if (task.getEntityId() != -1)
+        {
+            jobsPerEntity.remove(task.getEntityId(), task);
+        }
+    }
+
+    /**
+     * Get the amount of jobs waiting for a thread.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueDepth()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the average time jobs wait in the queue, weighted towards recent jobs.
+     *
+     * @return the time in milliseconds.
+     */
+    public static double getAverageWaitMillis()
+    {
+        return averageWaitMillis;
+    }
+
+    /**
+     * Get the average time jobs take to calculate, weighted towards recent jobs.
+     *
+     * @return the time in milliseconds.
+     */
+    public static double getAverageRunMillis()
+    {
+        return averageRunMillis;
+    }
+
+    /**
+     * Get the amount of jobs which were calculated.
+     *
+     * @return the amount.
+     */
+    public static long getCompletedJobs()
+    {
+        return completedJobs.get();
+    }
+
+    /**
+     * Get the amount of jobs which were replaced by a newer job of the same entity.
+     *
+     * @return the amount.
+     */
+    public static long getReplacedJobs()
+    {
+        return replacedJobs.get();
+    }
+
+    /**
+     * Get the amount of jobs which were rejected because the queue was full.
+     *
+     * @return the amount.
+     */
+    public static long getRejectedJobs()
+    {
+        return rejectedJobs.get();
     }
 
     /**
      * Waits until all running pathfinding requests are finished
      * Then stops all running threads in this thread pool
      */
-    public static void shutdown()
+    public static synchronized void shutdown()
     {
         getExecutor().shutdown();
         executor = null;
         jobQueue.clear();
+        jobsPerEntity.clear();
+        WorldSnapshot.clearCache();
+        ColonyPathGraph.clearAll();
     }
 
     /**
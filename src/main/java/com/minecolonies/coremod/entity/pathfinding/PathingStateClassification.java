@@ -0,0 +1,157 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.BlockFenceGate;
+import net.minecraft.block.BlockPressurePlate;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Pathfinding classification of block states, calculated once per state id and shared by all pathfinding threads.
+ */
+public final class PathingStateClassification
+{
+    /**
+     * Amount of possible block state ids (12 bit block id and 4 bit meta).
+     */
+    private static final int MAX_STATE_IDS = 1 << 16;
+
+    /**
+     * Marks a classification as calculated.
+     */
+    private static final byte CALCULATED = 1;
+
+    /**
+     * The block does not block movement, see {@link #isPassable(IBlockState)}.
+     */
+    private static final byte PASSABLE = 1 << 1;
+
+    /**
+     * The block is a liquid.
+     */
+    private static final byte LIQUID = 1 << 2;
+
+    /**
+     * The classification per state id, 0 if not calculated yet.
+     * Races only cause a classification to be calculated twice, with the same result.
+     */
+    private static final byte[] classifications = new byte[MAX_STATE_IDS];
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private PathingStateClassification()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Is the space passable.
+     *
+     * @param block the block we are checking.
+     * @return true if the block does not block movement.
+     */
+    public static boolean isPassable(@NotNull final IBlockState block)
+    {
+        if (block.getMaterial() != Material.AIR)
+        {
+            if (block.getMaterial().blocksMovement())
+            {
+                return block.getBlock() instanceof BlockDoor
+                         || block.getBlock() instanceof BlockFenceGate
+                         || block.getBlock() instanceof AbstractBlockMinecoloniesConstructionTape
+                         || block.getBlock() instanceof BlockPressurePlate;
+            }
+            else
+            {
+                return !block.getMaterial().isLiquid();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if the state with the given id is passable, see {@link #isPassable(IBlockState)}.
+     *
+     * @param stateId the id of the state.
+     * @return true if so.
+     */
+    public static boolean isPassable(final int stateId)
+    {
+        return (getClassification(stateId) & PASSABLE) != 0;
+    }
+
+    /**
+     * Check if the state with the given id is a liquid.
+     *
+     * @param stateId the id of the state.
+     * @return true if so.
+     */
+    public static boolean isLiquid(final int stateId)
+    {
+        return (getClassification(stateId) & LIQUID) != 0;
+    }
+
+    /**
+     * Drop all calculated classifications, required when the block state ids are remapped.
+     */
+    public static void clear()
+    {
+        Arrays.fill(classifications, (byte) 0);
+    }
+
+    /**
+     * Get the classification of a state id, calculating it if necessary.
+     *
+     * @param stateId the id of the state.
+     * @return the classification flags.
+     */
+    private static byte getClassification(final int stateId)
+    {
+        if (stateId < 0 || stateId >= MAX_STATE_IDS)
+        {
+            return CALCULATED | PASSABLE;
+        }
+
+        byte classification = classifications[stateId];
+        if (classification == 0)
+        {
+            classification = classify(Block.BLOCK_STATE_IDS.getByValue(stateId));
+            classifications[stateId] = classification;
+        }
+        return classification;
+    }
+
+    /**
+     * Calculate the classification of a state.
+     *
+     * @param state the state, null is treated like air.
+     * @return the classification flags.
+     */
+    private static byte classify(final IBlockState state)
+    {
+        if (state == null)
+        {
+            return CALCULATED | PASSABLE;
+        }
+
+        byte classification = CALCULATED;
+        if (isPassable(state))
+        {
+            classification |= PASSABLE;
+        }
+        if (state.getMaterial().isLiquid())
+        {
+            classification |= LIQUID;
+        }
+        return classification;
+    }
+}
@@ -0,0 +1,392 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Read only view of the blocks of a region of the world, made of {@link ChunkSnapshot}s.
+ * Created on the server thread when a path job is created, so the pathfinding threads never touch the live world.
+ * Chunk snapshots are shared between the jobs of a dimension and kept up to date by copying the sections with reported block changes again,
+ * a chunk is only copied completely when it was loaded again. Snapshots not used for {@link Configurations.Pathfinding#pathfindingSnapshotTicks}
+ * ticks are dropped.
+ * Tile entities are not part of the snapshot, unloaded chunks read as air.
+ */
+public final class WorldSnapshot implements IBlockAccess
+{
+    /**
+     * Amount of cached chunk snapshots per dimension above which unused snapshots are purged.
+     */
+    private static final int PURGE_THRESHOLD = 256;
+
+    /**
+     * The height of the world.
+     */
+    private static final int MAX_Y = 256;
+
+    /**
+     * The shared chunk snapshots per dimension and chunk, guarded by itself.
+     */
+    private static final Map<Integer, Map<Long, CachedChunk>> snapshotsPerDimension = new HashMap<>();
+
+    /**
+     * The chunk x coordinate of the first chunk of the region.
+     */
+    private final int minChunkX;
+
+    /**
+     * The chunk z coordinate of the first chunk of the region.
+     */
+    private final int minChunkZ;
+
+    /**
+     * The amount of chunks in x direction.
+     */
+    private final int sizeX;
+
+    /**
+     * The amount of chunks in z direction.
+     */
+    private final int sizeZ;
+
+    /**
+     * The snapshots of the region, null for chunks which were not loaded.
+     */
+    private final ChunkSnapshot[] chunks;
+
+    /**
+     * The world type of the world.
+     */
+    private final WorldType worldType;
+
+    /**
+     * The world time the snapshot was taken at, it contains all block changes reported before.
+     */
+    private final long capturedAt;
+
+    /**
+     * Create a snapshot of all chunks containing the given block region, must be called on the server thread.
+     *
+     * @param world the world.
+     * @param from  one corner of the region.
+     * @param to    the opposite corner of the region.
+     */
+    public WorldSnapshot(@NotNull final World world, @NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        this.minChunkX = Math.min(from.getX(), to.getX()) >> 4;
+        this.minChunkZ = Math.min(from.getZ(), to.getZ()) >> 4;
+        this.sizeX = (Math.max(from.getX(), to.getX()) >> 4) - minChunkX + 1;
+        this.sizeZ = (Math.max(from.getZ(), to.getZ()) >> 4) - minChunkZ + 1;
+        this.chunks = new ChunkSnapshot[sizeX * sizeZ];
+        this.worldType = world.getWorldType();
+
+        final long now = world.getTotalWorldTime();
+        this.capturedAt = now;
+        synchronized (snapshotsPerDimension)
+        {
+            final Map<Long, CachedChunk> snapshots = snapshotsPerDimension.computeIfAbsent(world.provider.getDimension(), dim -> new HashMap<>());
+            if (snapshots.size() > PURGE_THRESHOLD)
+            {
+                purgeUnused(snapshots, now);
+            }
+
+            for (int x = 0; x < sizeX; x++)
+            {
+                for (int z = 0; z < sizeZ; z++)
+                {
+                    chunks[x * sizeZ + z] = getSnapshot(world, snapshots, minChunkX + x, minChunkZ + z, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop all shared chunk snapshots, for example when the server stops.
+     */
+    public static void clearCache()
+    {
+        synchronized (snapshotsPerDimension)
+        {
+            snapshotsPerDimension.clear();
+        }
+        PathingStateClassification.clear();
+    }
+
+    /**
+     * Called when a block of a server world changed, marks the section of the block as changed in the shared snapshot.
+     *
+     * @param world the world.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (pos.getY() < 0 || pos.getY() >= MAX_Y)
+        {
+            return;
+        }
+
+        synchronized (snapshotsPerDimension)
+        {
+            final Map<Long, CachedChunk> snapshots = snapshotsPerDimension.get(world.provider.getDimension());
+            if (snapshots == null)
+            {
+                return;
+            }
+
+            final CachedChunk cached = snapshots.get(getChunkKey(pos.getX() >> 4, pos.getZ() >> 4));
+            if (cached != null)
+            {
+                cached.changedSections |= 1 << (pos.getY() >> 4);
+            }
+        }
+    }
+
+    /**
+     * Get the shared snapshot of a chunk, updating it if it changed.
+     *
+     * @param world     the world.
+     * @param snapshots the shared snapshots of the dimension.
+     * @param chunkX    the chunk x coordinate.
+     * @param chunkZ    the chunk z coordinate.
+     * @param now       the current world time.
+     * @return the snapshot or null if the chunk is not loaded.
+     */
+    @Nullable
+    private static ChunkSnapshot getSnapshot(
+      @NotNull final World world,
+      @NotNull final Map<Long, CachedChunk> snapshots,
+      final int chunkX,
+      final int chunkZ,
+      final long now)
+    {
+        final long key = getChunkKey(chunkX, chunkZ);
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            snapshots.remove(key);
+            return null;
+        }
+
+        CachedChunk cached = snapshots.get(key);
+        if (cached == null || cached.chunk.get() != chunk)
+        {
+            cached = new CachedChunk(chunk, new ChunkSnapshot(chunk, now), now);
+            snapshots.put(key, cached);
+        }
+        else if (cached.changedSections != 0)
+        {
+            cached.snapshot = new ChunkSnapshot(chunk, cached.snapshot, cached.changedSections, now);
+            cached.changedSections = 0;
+        }
+
+        cached.lastUsed = now;
+        return cached.snapshot;
+    }
+
+    /**
+     * Remove all snapshots of a dimension which were not used by a job for a while.
+     *
+     * @param snapshots the snapshots of the dimension.
+     * @param now       the current world time.
+     */
+    private static void purgeUnused(@NotNull final Map<Long, CachedChunk> snapshots, final long now)
+    {
+        final Iterator<CachedChunk> iterator = snapshots.values().iterator();
+        while (iterator.hasNext())
+        {
+            final CachedChunk cached = iterator.next();
+            final long unusedFor = now - cached.lastUsed;
+            if (cached.chunk.get() == null || unusedFor < 0 || unusedFor >= Configurations.pathfinding.pathfindingSnapshotTicks)
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Get the cache key of a chunk.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the key.
+     */
+    private static long getChunkKey(final int chunkX, final int chunkZ)
+    {
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    /**
+     * Get the snapshot of the chunk containing a position.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the snapshot or null if outside of the region or not loaded.
+     */
+    @Nullable
+    private ChunkSnapshot getChunk(final int x, final int z)
+    {
+        final int chunkX = (x >> 4) - minChunkX;
+        final int chunkZ = (z >> 4) - minChunkZ;
+        if (chunkX < 0 || chunkX >= sizeX || chunkZ < 0 || chunkZ >= sizeZ)
+        {
+            return null;
+        }
+        return chunks[chunkX * sizeZ + chunkZ];
+    }
+
+    /**
+     * Get the world time the snapshot was taken at.
+     *
+     * @return the time.
+     */
+    public long getCapturedAt()
+    {
+        return capturedAt;
+    }
+
+    /**
+     * Get the height above the highest section with blocks of the chunk containing a position.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the height, 0 outside of the snapshot.
+     */
+    public int getTopFilledHeight(final int x, final int z)
+    {
+        final ChunkSnapshot chunk = getChunk(x, z);
+        return chunk == null ? 0 : chunk.getTopFilledHeight();
+    }
+
+    /**
+     * Get the block state id at a position.
+     *
+     * @param pos the position.
+     * @return the id, 0 (air) outside of the snapshot.
+     */
+    public int getStateId(@NotNull final BlockPos pos)
+    {
+        final ChunkSnapshot chunk = getChunk(pos.getX(), pos.getZ());
+        return chunk == null ? 0 : chunk.getStateId(pos.getX() & 0xF, pos.getY(), pos.getZ() & 0xF);
+    }
+
+    @NotNull
+    @Override
+    public IBlockState getBlockState(@NotNull final BlockPos pos)
+    {
+        final IBlockState state = Block.BLOCK_STATE_IDS.getByValue(getStateId(pos));
+        return state == null ? Blocks.AIR.getDefaultState() : state;
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(@NotNull final BlockPos pos)
+    {
+        return null;
+    }
+
+    @Override
+    public int getCombinedLight(@NotNull final BlockPos pos, final int lightValue)
+    {
+        return 0;
+    }
+
+    @Override
+    public boolean isAirBlock(@NotNull final BlockPos pos)
+    {
+        final IBlockState state = getBlockState(pos);
+        return state.getBlock().isAir(state, this, pos);
+    }
+
+    @NotNull
+    @Override
+    public Biome getBiome(@NotNull final BlockPos pos)
+    {
+        final ChunkSnapshot chunk = getChunk(pos.getX(), pos.getZ());
+        if (chunk == null)
+        {
+            return Biomes.PLAINS;
+        }
+
+        return Biome.getBiome(chunk.getBiomeId(pos.getX() & 0xF, pos.getZ() & 0xF), Biomes.PLAINS);
+    }
+
+    @Override
+    public int getStrongPower(@NotNull final BlockPos pos, @NotNull final EnumFacing direction)
+    {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public WorldType getWorldType()
+    {
+        return worldType;
+    }
+
+    @Override
+    public boolean isSideSolid(@NotNull final BlockPos pos, @NotNull final EnumFacing side, final boolean _default)
+    {
+        if (pos.getY() < 0 || pos.getY() >= MAX_Y || getChunk(pos.getX(), pos.getZ()) == null)
+        {
+            return _default;
+        }
+        return getBlockState(pos).isSideSolid(this, pos, side);
+    }
+
+    /**
+     * The shared snapshot of a chunk and the sections changed since it was taken.
+     */
+    private static final class CachedChunk
+    {
+        /**
+         * The chunk the snapshot was taken of, to notice when the chunk was unloaded and loaded again.
+         */
+        private final WeakReference<Chunk> chunk;
+
+        /**
+         * The current snapshot.
+         */
+        private ChunkSnapshot snapshot;
+
+        /**
+         * Bit mask of the sections changed since the snapshot was taken.
+         */
+        private int changedSections = 0;
+
+        /**
+         * The world time the snapshot was last used by a job.
+         */
+        private long lastUsed;
+
+        /**
+         * Create a new cache entry.
+         *
+         * @param chunk    the chunk.
+         * @param snapshot the complete snapshot of the chunk.
+         * @param now      the current world time.
+         */
+        private CachedChunk(@NotNull final Chunk chunk, @NotNull final ChunkSnapshot snapshot, final long now)
+        {
+            this.chunk = new WeakReference<>(chunk);
+            this.snapshot = snapshot;
+            this.lastUsed = now;
+        }
+    }
+}
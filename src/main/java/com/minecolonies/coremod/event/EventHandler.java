@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.*;
 import com.minecolonies.api.colony.buildings.IGuardBuilding;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.ai.util.StructureBuildPlan;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
@@ -19,6 +20,7 @@ import com.minecolonies.coremod.blocks.huts.BlockHutWareHouse;
 import com.minecolonies.coremod.client.render.RenderBipedCitizen;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldCellIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
@@ -372,6 +374,31 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event when a block changed and notifies its neighbours.
+     * Lets the build plans of the builders and the cell indexes of the farmer fields know that the block may need work again.
+     * Changes which do not notify the neighbours reach them through {@link com.minecolonies.coremod.colony.ColonyManagerWorldAccess}.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent}
+     */
+    @SubscribeEvent
+    public void onBlockChanged(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        StructureBuildPlan.onBlockChanged(event.getWorld(), event.getPos());
+        FieldCellIndex.onBlockChanged(event.getWorld(), event.getPos());
+    }
+
+    /**
+     * Lets the cell indexes of the farmer fields know that a crop grew, growth does not notify the neighbours.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.CropGrowEvent.Post}
+     */
+    @SubscribeEvent
+    public void onCropGrown(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        FieldCellIndex.onBlockChanged(event.getWorld(), event.getPos());
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item.
      * Event gets cancelled when player has no permission. Event gets cancelled
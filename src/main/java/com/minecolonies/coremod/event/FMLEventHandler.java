@@ -1,13 +1,21 @@
 package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.entity.ai.util.StructureBuildPlan;
+import com.minecolonies.api.entity.ai.util.StructureTemplateCache;
 import com.minecolonies.api.sounds.ModSoundEvents;
+import com.minecolonies.api.util.TickProfiler;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.entity.ai.basic.AITickRateController;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldCellIndex;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.network.NetworkMetrics;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BackUpHelper;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.common.config.Config;
@@ -112,5 +120,13 @@ public class FMLEventHandler
     public static void onServerStopped(final FMLServerStoppedEvent event)
     {
         Pathfinding.shutdown();
+        BackUpHelper.shutdown();
+        ColonyTickScheduler.clear();
+        TickProfiler.clear();
+        AITickRateController.reset();
+        StructureTemplateCache.clear();
+        StructureBuildPlan.clear();
+        FieldCellIndex.clear();
+        NetworkMetrics.reset();
     }
 }
@@ -0,0 +1,173 @@
+package com.minecolonies.coremod.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the amount of bytes sent per message type, to find out which views are expensive to keep in sync.
+ * Rates are measured over windows of {@link #WINDOW_MILLIS}, the rate of the last complete window is reported.
+ */
+public final class NetworkMetrics
+{
+    /**
+     * Length of a measuring window in milliseconds.
+     */
+    private static final long WINDOW_MILLIS = 5000;
+
+    /**
+     * The counters per message type.
+     */
+    private static final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private NetworkMetrics()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Record that a message was sent.
+     *
+     * @param type    the message type.
+     * @param bytes   the size of the serialized payload.
+     * @param players the amount of players it was sent to.
+     */
+    public static void record(@NotNull final Class<?> type, final int bytes, final int players)
+    {
+        counters.computeIfAbsent(type, t -> new Counter()).add((long) bytes * players, System.currentTimeMillis());
+    }
+
+    /**
+     * Get the bytes per second sent of a message type.
+     *
+     * @param type the message type.
+     * @return the rate of the last complete window, 0 if unknown.
+     */
+    public static double getBytesPerSecond(@NotNull final Class<?> type)
+    {
+        final Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.getBytesPerSecond(System.currentTimeMillis());
+    }
+
+    /**
+     * Get all message types which were sent so far.
+     *
+     * @return the types, sorted by their simple name.
+     */
+    @NotNull
+    public static List<Class<?>> getMessageTypes()
+    {
+        final List<Class<?>> types = new ArrayList<>(counters.keySet());
+        types.sort(Comparator.comparing(Class::getSimpleName));
+        return types;
+    }
+
+    /**
+     * Get the total amount of bytes sent of a message type.
+     *
+     * @param type the message type.
+     * @return the amount.
+     */
+    public static long getTotalBytes(@NotNull final Class<?> type)
+    {
+        final Counter counter = counters.get(type);
+        return counter == null ? 0 : counter.getTotalBytes();
+    }
+
+    /**
+     * Reset all counters.
+     */
+    public static void reset()
+    {
+        counters.clear();
+    }
+
+    /**
+     * Byte counter of a single message type.
+     */
+    private static final class Counter
+    {
+        /**
+         * The start of the current window.
+         */
+        private long windowStart = System.currentTimeMillis();
+
+        /**
+         * The bytes sent in the current window.
+         */
+        private long windowBytes = 0;
+
+        /**
+         * The rate of the last complete window.
+         */
+        private double lastRate = 0;
+
+        /**
+         * The total bytes sent.
+         */
+        private long totalBytes = 0;
+
+        /**
+         * Add sent bytes.
+         *
+         * @param bytes the amount of bytes.
+         * @param now   the current time in milliseconds.
+         */
+        private synchronized void add(final long bytes, final long now)
+        {
+            roll(now);
+            windowBytes += bytes;
+            totalBytes += bytes;
+        }
+
+        /**
+         * Get the rate of the last complete window.
+         *
+         * @param now the current time in milliseconds.
+         * @return the bytes per second.
+         */
+        private synchronized double getBytesPerSecond(final long now)
+        {
+            roll(now);
+            return lastRate;
+        }
+
+        /**
+         * Get the total bytes sent.
+         *
+         * @return the amount.
+         */
+        private synchronized long getTotalBytes()
+        {
+            return totalBytes;
+        }
+
+        /**
+         * Close the current window if it is over.
+         *
+         * @param now the current time in milliseconds.
+         */
+        private void roll(final long now)
+        {
+            final long elapsed = now - windowStart;
+            if (elapsed < WINDOW_MILLIS)
+            {
+                return;
+            }
+
+            // A window without any traffic in between means the rate dropped to zero.
+            lastRate = elapsed >= 2 * WINDOW_MILLIS ? 0 : windowBytes * 1000D / elapsed;
+            windowBytes = 0;
+            windowStart = now;
+        }
+    }
+}
@@ -47,6 +47,21 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         this.dimension = building.getColony().getDimension();
     }
 
+    /**
+     * Creates a message to handle colony views from already serialized data.
+     *
+     * @param building AbstractBuilding to add or update a view.
+     * @param buf      the serialized view, shared with other messages and only read.
+     */
+    public ColonyViewBuildingViewMessage(@NotNull final IBuilding building, @NotNull final ByteBuf buf)
+    {
+        super();
+        this.colonyId = building.getColony().getID();
+        this.buildingId = building.getID();
+        this.buildingData = buf;
+        this.dimension = building.getColony().getDimension();
+    }
+
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
@@ -63,7 +78,7 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
         buf.writeInt(dimension);
-        buf.writeBytes(buildingData);
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Override
@@ -47,6 +47,22 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         citizen.serializeViewNetworkData(citizenBuffer);
     }
 
+    /**
+     * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens from already serialized data.
+     *
+     * @param colony  Colony of the citizen
+     * @param citizen Citizen data of the citizen to update view
+     * @param buf     the serialized view, shared with other messages and only read.
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, @NotNull final ByteBuf buf)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.citizenId = citizen.getId();
+        this.citizenBuffer = buf;
+        this.dimension = citizen.getColony().getDimension();
+    }
+
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
@@ -62,7 +78,7 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeInt(dimension);
-        buf.writeBytes(citizenBuffer);
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
     }
 
     @Override
@@ -45,7 +45,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
      * Add or Update a ColonyView on the client.
      *
      * @param colony            Colony of the view to update.
-     * @param buf               the bytebuffer.
+     * @param buf               the serialized view, shared with other messages and only read.
      * @param isNewSubscription Boolean whether or not this is a new subscription.
      */
     public ColonyViewMessage(@NotNull final Colony colony, final ByteBuf buf, final boolean isNewSubscription)
@@ -53,7 +53,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         this.colonyId = colony.getID();
         this.isNewSubscription = isNewSubscription;
         this.dim = colony.getDimension();
-        this.colonyBuffer = buf.copy();
+        this.colonyBuffer = buf;
     }
 
     @Override
@@ -72,7 +72,7 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeInt(dim);
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Override
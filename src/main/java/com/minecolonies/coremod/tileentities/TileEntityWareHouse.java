@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.google.common.collect.Lists;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -18,9 +19,9 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -33,6 +34,26 @@ import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABI
  */
 public class TileEntityWareHouse extends AbstractTileEntityWareHouse
 {
+    /**
+     * Index of the content of the warehouse and its racks.
+     */
+    private final WareHouseItemIndex itemIndex = new WareHouseItemIndex();
+
+    /**
+     * The containers of the building the index was built with.
+     */
+    private final Set<BlockPos> indexedContainers = new HashSet<>();
+
+    /**
+     * Containers which are not racks and therefore can't be indexed, they're checked on every query.
+     */
+    private final Set<BlockPos> untrackedContainers = new HashSet<>();
+
+    /**
+     * If the index has been built since the last invalidation.
+     */
+    private boolean itemIndexBuilt = false;
+
     public TileEntityWareHouse()
     {
         super();
@@ -49,8 +70,120 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        return getCountInWarehouse(itemStackSelectionPredicate) >= count;
+    }
+
+    @Override
+    public int getCountInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        if (!ensureItemIndex())
+        {
+            return 0;
+        }
+
+        int count = itemIndex.getCount(itemStackSelectionPredicate);
+        // Getting a tile entity may load a rack, which removes itself from the untracked containers.
+        for (final BlockPos pos : new ArrayList<>(untrackedContainers))
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null && !(entity instanceof AbstractTileEntityRack))
+            {
+                count += InventoryUtils.getItemCountInProvider(entity, itemStackSelectionPredicate);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void onRackContentChanged(@NotNull final AbstractTileEntityRack rack)
+    {
+        if (itemIndexBuilt && indexedContainers.contains(rack.getPos()))
+        {
+            untrackedContainers.remove(rack.getPos());
+            itemIndex.updateContainer(rack.getPos(), rack.getAllContent());
+        }
+    }
+
+    @Override
+    public void onRackItemChanged(@NotNull final AbstractTileEntityRack rack, @NotNull final ItemStorage storage, final int count)
+    {
+        if (itemIndexBuilt && indexedContainers.contains(rack.getPos()))
+        {
+            untrackedContainers.remove(rack.getPos());
+            itemIndex.updateItem(rack.getPos(), storage, count);
+        }
+    }
+
+    @Override
+    public void onRackRemoved(@NotNull final BlockPos pos)
+    {
+        itemIndex.removeContainer(pos);
+    }
+
+    @Override
+    public void invalidateItemIndex()
+    {
+        itemIndexBuilt = false;
+        itemIndex.clear();
+        indexedContainers.clear();
+        untrackedContainers.clear();
+    }
+
+    @Override
+    public void updateItemStorage()
+    {
+        super.updateItemStorage();
+        if (itemIndexBuilt)
+        {
+            itemIndex.updateContainer(getPos(), getAllContent());
+        }
+    }
+
+    @Override
+    protected void onItemCountChanged(@NotNull final ItemStorage storage, final int count)
+    {
+        super.onItemCountChanged(storage, count);
+        if (itemIndexBuilt)
+        {
+            itemIndex.updateItem(getPos(), storage, count);
+        }
+    }
+
+    /**
+     * Build the item index if it has been invalidated.
+     * Racks keep it up to date afterwards, other containers are remembered and scanned on every query.
+     *
+     * @return false if the building isn't available yet.
+     */
+    private boolean ensureItemIndex()
+    {
+        if (itemIndexBuilt)
+        {
+            return true;
+        }
+
+        if (getBuilding() == null || getWorld() == null)
+        {
+            return false;
+        }
+
+        itemIndex.updateContainer(getPos(), getAllContent());
+        for (final BlockPos pos : getBuilding().getAdditionalCountainers())
+        {
+            indexedContainers.add(pos);
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity instanceof AbstractTileEntityRack)
+            {
+                itemIndex.updateContainer(pos, ((AbstractTileEntityRack) entity).getAllContent());
+            }
+            else
+            {
+                untrackedContainers.add(pos);
+            }
+        }
+
+        itemIndexBuilt = true;
+        return true;
     }
 
     /**
@@ -87,16 +220,24 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     public BlockPos getPositionOfChestWithItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        if (getBuilding() != null)
+        if (!ensureItemIndex())
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            return null;
+        }
 
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
-                     .findFirst().orElse(null);
+        final BlockPos indexedPos = itemIndex.getPositionOf(itemStackSelectionPredicate);
+        if (indexedPos != null)
+        {
+            return indexedPos;
+        }
+
+        for (final BlockPos pos : new ArrayList<>(untrackedContainers))
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null && !(entity instanceof AbstractTileEntityRack) && InventoryUtils.hasItemInProvider(entity, itemStackSelectionPredicate))
+            {
+                return pos;
+            }
         }
 
         return null;
@@ -0,0 +1,213 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items stored in the racks of a warehouse.
+ * Keeps the total count per item (item, damage and nbt) and the containers holding it,
+ * so that lookups only visit the distinct items instead of every slot of every rack.
+ */
+public class WareHouseItemIndex
+{
+    /**
+     * The last known content per container.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contentPerContainer = new HashMap<>();
+
+    /**
+     * The containers and their amount per item.
+     */
+    private final Map<ItemStorage, Map<BlockPos, Integer>> containersPerItem = new HashMap<>();
+
+    /**
+     * The total amount per item.
+     */
+    private final Map<ItemStorage, Integer> totalCounts = new HashMap<>();
+
+    /**
+     * Replace the indexed content of a container.
+     *
+     * @param pos     the position of the container.
+     * @param content the new content of the container.
+     */
+    public void updateContainer(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        removeContainer(pos);
+        if (content.isEmpty())
+        {
+            return;
+        }
+
+        final Map<ItemStorage, Integer> newContent = new HashMap<>(content);
+        contentPerContainer.put(pos, newContent);
+        for (final Map.Entry<ItemStorage, Integer> entry : newContent.entrySet())
+        {
+            containersPerItem.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(pos, entry.getValue());
+            totalCounts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+    }
+
+    /**
+     * Set the indexed amount of a single item in a container.
+     *
+     * @param pos     the position of the container.
+     * @param storage the item.
+     * @param count   the new amount of the item in the container.
+     */
+    public void updateItem(@NotNull final BlockPos pos, @NotNull final ItemStorage storage, final int count)
+    {
+        Map<ItemStorage, Integer> content = contentPerContainer.get(pos);
+        if (content != null)
+        {
+            final Integer oldCount = content.remove(storage);
+            if (oldCount != null)
+            {
+                removeFromItem(storage, pos, oldCount);
+            }
+        }
+
+        if (count > 0)
+        {
+            if (content == null)
+            {
+                content = new HashMap<>();
+                contentPerContainer.put(pos, content);
+            }
+            content.put(storage, count);
+            containersPerItem.computeIfAbsent(storage, key -> new HashMap<>()).put(pos, count);
+            totalCounts.merge(storage, count, Integer::sum);
+        }
+        else if (content != null && content.isEmpty())
+        {
+            contentPerContainer.remove(pos);
+        }
+    }
+
+    /**
+     * Remove a container from the index.
+     *
+     * @param pos the position of the container.
+     */
+    public void removeContainer(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> oldContent = contentPerContainer.remove(pos);
+        if (oldContent != null)
+        {
+            for (final Map.Entry<ItemStorage, Integer> entry : oldContent.entrySet())
+            {
+                removeFromItem(entry.getKey(), pos, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Check if a container is part of the index.
+     *
+     * @param pos the position of the container.
+     * @return true if so.
+     */
+    public boolean containsContainer(@NotNull final BlockPos pos)
+    {
+        return contentPerContainer.containsKey(pos);
+    }
+
+    /**
+     * Get the total amount of a certain item.
+     *
+     * @param storage the item.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        return totalCounts.getOrDefault(storage, 0);
+    }
+
+    /**
+     * Get the total amount of items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : totalCounts.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the position of a container holding an item matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the position or null if none.
+     */
+    @Nullable
+    public BlockPos getPositionOf(@NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : containersPerItem.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                for (final BlockPos pos : entry.getValue().keySet())
+                {
+                    return pos;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear()
+    {
+        contentPerContainer.clear();
+        containersPerItem.clear();
+        totalCounts.clear();
+    }
+
+    /**
+     * Remove the amount a container held of an item.
+     *
+     * @param storage the item.
+     * @param pos     the position of the container.
+     * @param amount  the amount it held.
+     */
+    private void removeFromItem(final ItemStorage storage, final BlockPos pos, final int amount)
+    {
+        final Map<BlockPos, Integer> containers = containersPerItem.get(storage);
+        if (containers != null)
+        {
+            containers.remove(pos);
+            if (containers.isEmpty())
+            {
+                containersPerItem.remove(storage);
+            }
+        }
+
+        final int remaining = totalCounts.getOrDefault(storage, 0) - amount;
+        if (remaining <= 0)
+        {
+            totalCounts.remove(storage);
+        }
+        else
+        {
+            totalCounts.put(storage, remaining);
+        }
+    }
+}
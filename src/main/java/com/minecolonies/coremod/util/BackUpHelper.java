@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.util;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -17,12 +18,15 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -37,6 +41,66 @@ public final class BackUpHelper
      */
     private final static int MAX_COLONY_LOAD = 5000;
 
+    /**
+     * The maximum amount of save jobs waiting for the save thread, further saves are written by the calling thread.
+     */
+    private final static int MAX_PENDING_SAVES = 64;
+
+    /**
+     * Seconds to wait on shutdown for running save and backup jobs to finish.
+     */
+    private final static int SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Suffix of the temporary file a save is written to before it replaces the actual file.
+     */
+    private final static String TMP_SUFFIX = "_tmp";
+
+    /**
+     * The latest not yet written data per file. A queued job writes whatever is in here once it runs, so repeated saves of a file coalesce.
+     */
+    private static final Map<File, NBTTagCompound> pendingSaves = new ConcurrentHashMap<>();
+
+    /**
+     * The last data handed to the save thread per file, to skip colonies which didn't change since.
+     */
+    private static final Map<File, NBTTagCompound> lastSavedData = new HashMap<>();
+
+    /**
+     * Lock held while a file is being written.
+     */
+    private static final Object writeLock = new Object();
+
+    /**
+     * The executor running the save jobs.
+     */
+    private static ThreadPoolExecutor saveExecutor;
+
+    /**
+     * Name of the manifest inside a backup, listing each colony file with its hash and the backup containing it.
+     */
+    private final static String FILENAME_BACKUP_MANIFEST = "backup-manifest.txt";
+
+    /**
+     * Matches the names of colony files, with the colony id, the dimension and the deleted suffix as groups.
+     */
+    private static final Pattern COLONY_FILE_PATTERN = Pattern.compile("colony(\\d+)_(-?\\d+)\\.dat(\\.deleted)?");
+
+    /**
+     * Matches the names of backups.
+     */
+    private static final Pattern BACKUP_FILE_PATTERN = Pattern.compile("colonies-.+\\.zip");
+
+    /**
+     * The hash per file of the last backup, for incremental backups.
+     */
+    private static final Map<String, String> lastBackupHashes = new HashMap<>();
+
+    /**
+     * The backup containing each file of the last backup.
+     */
+    private static final Map<String, String> lastBackupSources = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -48,56 +112,171 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data and wait for the backup to be written.
      *
      * @return true if succesful.
      */
     public static boolean backupColonyData()
+    {
+        try
+        {
+            return backupColonyDataAsync().get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+        }
+        return false;
+    }
+
+    /**
+     * Backup the colony data in the background.
+     * The colonies are saved on the calling thread, the zip is written on the save thread after all pending saves.
+     *
+     * @return a future completing with true if the backup was succesful.
+     */
+    public static CompletableFuture<Boolean> backupColonyDataAsync()
     {
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final File[] files = saveDir.listFiles();
+        if (files != null)
+        {
+            // mark files of colonies which don't exist anymore, colonies of unloaded dimensions are unknown and kept
+            for (final File file : files)
+            {
+                final Matcher matcher = COLONY_FILE_PATTERN.matcher(file.getName());
+                if (!matcher.matches() || matcher.group(3) != null)
+                {
+                    continue;
+                }
+
+                final int colonyId = Integer.parseInt(matcher.group(1));
+                final int dimension = Integer.parseInt(matcher.group(2));
+                if (DimensionManager.getWorld(dimension) != null && IColonyManager.getInstance().getColonyByDimension(colonyId, dimension) == null)
+                {
+                    markColonyDeleted(colonyId, dimension);
+                }
+            }
+        }
+
+        final File backupFile = getBackupSaveLocation(new Date());
+        final int retentionCount = Configurations.gameplay.backupRetentionCount;
+        final boolean incremental = Configurations.gameplay.incrementalBackups;
+        return CompletableFuture.supplyAsync(() -> writeBackup(saveDir, backupFile, retentionCount, incremental), getSaveExecutor());
+    }
+
+    /**
+     * Write the colony files of the save directory into a backup zip.
+     * Runs after all previously queued saves, no file is written meanwhile.
+     *
+     * @param saveDir        the minecolonies save directory.
+     * @param backupFile     the zip to create.
+     * @param retentionCount the amount of backups to keep, 0 to keep all.
+     * @param incremental    if only files which changed since the previous backup should be packed.
+     * @return true if succesful.
+     */
+    private static boolean writeBackup(@NotNull final File saveDir, @NotNull final File backupFile, final int retentionCount, final boolean incremental)
+    {
+        synchronized (writeLock)
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            final File[] files = saveDir.listFiles();
+            if (files == null)
+            {
+                Log.getLogger().warn("Unable to backup colony data, can't list " + saveDir);
+                return false;
+            }
 
-            for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+            final Map<String, String> hashes = new HashMap<>();
+            final Map<String, String> sources = new HashMap<>();
+            final StringBuilder manifest = new StringBuilder();
+            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(backupFile))))
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                for (final File file : files)
                 {
-                    @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
-                    @NotNull final File fileDeleted = new File(saveDir, String.format(FILENAME_COLONY_DELETED, i, dim));
-                    if (file.exists())
+                    final String fileName = file.getName();
+                    if (!fileName.equals(FILENAME_MINECOLONIES) && !COLONY_FILE_PATTERN.matcher(fileName).matches())
                     {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
-                        {
-                            markColonyDeleted(i, dim);
-                            addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(String.format(FILENAME_COLONY, i, dim), zos, saveDir);
-                        }
+                        continue;
+                    }
+
+                    final String hash = Files.asByteSource(file).hash(Hashing.sha256()).toString();
+                    final String lastSource = lastBackupSources.get(fileName);
+                    final String source;
+                    if (incremental && hash.equals(lastBackupHashes.get(fileName)) && lastSource != null && new File(saveDir, lastSource).exists())
+                    {
+                        source = lastSource;
+                    }
+                    else if (addToZipFile(fileName, zos, saveDir))
+                    {
+                        source = backupFile.getName();
                     }
-                    else if (fileDeleted.exists())
+                    else
                     {
-                        addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
+                        // Not in the manifest, so the next backup packs it again.
+                        continue;
                     }
+
+                    hashes.put(fileName, hash);
+                    sources.put(fileName, source);
+                    manifest.append(fileName).append('\t').append(hash).append('\t').append(source).append('\n');
                 }
+
+                zos.putNextEntry(new ZipEntry(FILENAME_BACKUP_MANIFEST));
+                zos.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
+            catch (final Exception e)
+            {
+                /*
+                 * Intentionally not being thrown.
+                 */
+                Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
+                return false;
+            }
+
+            lastBackupHashes.clear();
+            lastBackupHashes.putAll(hashes);
+            lastBackupSources.clear();
+            lastBackupSources.putAll(sources);
+
+            if (retentionCount > 0)
+            {
+                deleteOldBackups(saveDir, retentionCount);
+            }
+            return true;
         }
-        catch (final Exception e)
+    }
+
+    /**
+     * Delete the oldest backups exceeding the retention count.
+     * Backups holding files of the latest incremental backup are kept.
+     *
+     * @param saveDir        the minecolonies save directory.
+     * @param retentionCount the amount of backups to keep.
+     */
+    private static void deleteOldBackups(@NotNull final File saveDir, final int retentionCount)
+    {
+        final File[] backups = saveDir.listFiles((dir, name) -> BACKUP_FILE_PATTERN.matcher(name).matches());
+        if (backups == null || backups.length <= retentionCount)
         {
-            /*
-             * Intentionally not being thrown.
-             */
-            Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
+            return;
         }
 
-        return true;
+        // The timestamp format sorts chronologically by name.
+        Arrays.sort(backups, Comparator.comparing(File::getName));
+        for (int i = 0; i < backups.length - retentionCount; i++)
+        {
+            if (!lastBackupSources.containsValue(backups[i].getName()) && !backups[i].delete())
+            {
+                Log.getLogger().warn("Unable to delete old backup " + backups[i].getName());
+            }
+        }
     }
 
     /**
@@ -149,14 +328,16 @@ public final class BackUpHelper
      * @param fileName the file name.
      * @param zos      the output stream.
      * @param folder   the folder.
+     * @return true if the file was packed.
      */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
+    private static boolean addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
     {
         final File file = new File(folder, fileName);
         try (FileInputStream fis = new FileInputStream(file))
         {
             zos.putNextEntry(new ZipEntry(fileName));
             Files.copy(file, zos);
+            return true;
         }
         catch (final Exception e)
         {
@@ -164,6 +345,7 @@ public final class BackUpHelper
              * Intentionally not being thrown.
              */
             Log.getLogger().warn("Error packing " + fileName + " into the zip.");
+            return false;
         }
     }
 
@@ -225,6 +407,8 @@ public final class BackUpHelper
 
     /**
      * Save all the Colonies.
+     * The data is collected on the calling thread, compressing and writing it is done on the save thread.
+     * Colonies which weren't changed since their last save are skipped.
      */
     public static void saveColonies()
     {
@@ -232,14 +416,156 @@ public final class BackUpHelper
         IColonyManager.getInstance().writeToNBT(compound);
 
         @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        saveNBTToPathAsync(file, compound);
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final NBTTagCompound colonyCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            final File colonyFile = new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension()));
+
+            // The colony only rewrites its tag when it was active since the last write, an identical tag means nothing changed.
+            final NBTTagCompound colonyCompound = colony.getColonyTag();
+            if (colonyCompound == null || (colonyCompound == lastSavedData.get(colonyFile) && colonyFile.exists()))
+            {
+                continue;
+            }
+
+            lastSavedData.put(colonyFile, colonyCompound);
+            saveNBTToPathAsync(colonyFile, colonyCompound);
+        }
+    }
+
+    /**
+     * Queue an NBTTagCompound to be written to a file on the save thread.
+     * The compound must not be modified afterwards.
+     *
+     * @param file     The destination file to write the data to.
+     * @param compound The NBTTagCompound to write to the file.
+     */
+    public static void saveNBTToPathAsync(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        if (pendingSaves.put(file, compound) == null)
+        {
+            // When the queue is full the job runs right here, which slows the caller down instead of piling up data.
+            getSaveExecutor().execute(() -> writePendingSave(file));
+        }
+    }
+
+    /**
+     * Write the pending data of a file, if there is any.
+     *
+     * @param file the file.
+     */
+    private static void writePendingSave(@NotNull final File file)
+    {
+        synchronized (writeLock)
+        {
+            final NBTTagCompound compound = pendingSaves.remove(file);
+            if (compound != null)
+            {
+                writeNBTAtomically(file, compound);
+            }
+        }
+    }
+
+    /**
+     * Write an NBTTagCompound to a temporary file and move it over the destination afterwards,
+     * so that a crash while writing never leaves a broken file behind.
+     *
+     * @param file     The destination file to write the data to.
+     * @param compound The NBTTagCompound to write to the file.
+     */
+    private static void writeNBTAtomically(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        final File tmpFile = new File(file.getParentFile(), file.getName() + TMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdir();
+            try (FileOutputStream fos = new FileOutputStream(tmpFile))
+            {
+                CompressedStreamTools.writeCompressed(compound, fos);
+            }
+
+            try
+            {
+                java.nio.file.Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                java.nio.file.Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when saving " + file.getName(), exception);
+        }
+    }
+
+    /**
+     * Write all pending saves on the calling thread and wait for the save thread to finish its current write.
+     */
+    public static void flushSaves()
+    {
+        for (final File file : new ArrayList<>(pendingSaves.keySet()))
+        {
+            writePendingSave(file);
+        }
+
+        synchronized (writeLock)
+        {
+            /*
+             * Waits for a write in progress.
+             */
+        }
+    }
+
+    /**
+     * Writes all pending saves and stops the save thread.
+     */
+    public static void shutdown()
+    {
+        flushSaves();
+        final ThreadPoolExecutor executor;
+        synchronized (BackUpHelper.class)
+        {
+            executor = saveExecutor;
+            saveExecutor = null;
+        }
+
+        if (executor != null)
+        {
+            executor.shutdown();
+            try
+            {
+                if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                {
+                    Log.getLogger().warn("Colony saves did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds, the latest changes may be lost");
+                }
+            }
+            catch (final InterruptedException e)
+            {
+                Log.getLogger().warn("Interrupted while waiting for the colony saves to finish", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+        lastSavedData.clear();
+    }
+
+    /**
+     * Creates the single thread executor for save jobs.
+     *
+     * @return the executor.
+     */
+    private static synchronized ThreadPoolExecutor getSaveExecutor()
+    {
+        if (saveExecutor == null)
+        {
+            saveExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_SAVES), runnable -> {
+                final Thread thread = new Thread(runnable, "Minecolonies Colony Save");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
         }
+        return saveExecutor;
     }
 
     /**
@@ -252,6 +578,9 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
+        pendingSaves.remove(todelete);
+        lastSavedData.remove(todelete);
+        flushSaves();
         if (todelete.exists())
         {
             new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyID, dimensionID)).delete();
@@ -267,6 +596,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final int dimension, final boolean claimChunks)
     {
+        flushSaves();
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         NBTTagCompound compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
         if (compound == null)
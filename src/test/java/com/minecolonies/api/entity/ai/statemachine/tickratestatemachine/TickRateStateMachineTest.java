@@ -0,0 +1,115 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the compiled transition dispatch of {@link TickRateStateMachine} against the plain tickrate check.
+ */
+public class TickRateStateMachineTest
+{
+    /**
+     * Amount of ticks simulated, more than one cycle of the tick counter.
+     */
+    private static final int TICKS = MAX_TICKRATE * 3 + 7;
+
+    private static List<String> expectedChecks(final List<ITickingTransition<IAIState>> transitions)
+    {
+        final List<String> expected = new ArrayList<>();
+        for (int tick = 1; tick <= TICKS; tick++)
+        {
+            final int counter = (tick - 1) % MAX_TICKRATE + 1;
+            for (int i = 0; i < transitions.size(); i++)
+            {
+                if (counter % transitions.get(i).getTickRate() == transitions.get(i).getTickOffset())
+                {
+                    expected.add(tick + ":" + i);
+                }
+            }
+        }
+        return expected;
+    }
+
+    private static void assertDispatch(final int... rates)
+    {
+        final TickRateStateMachine<IAIState> stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, e -> {});
+        final List<String> checks = new ArrayList<>();
+        final List<ITickingTransition<IAIState>> transitions = new ArrayList<>();
+        final int[] tick = {0};
+        for (int i = 0; i < rates.length; i++)
+        {
+            final int index = i;
+            final ITickingTransition<IAIState> transition = new TickingTransition<>(AIWorkerState.INIT, () -> {
+                checks.add(tick[0] + ":" + index);
+                return false;
+            }, () -> null, rates[i]);
+            transitions.add(transition);
+            stateMachine.addTransition(transition);
+        }
+
+        for (tick[0] = 1; tick[0] <= TICKS; tick[0]++)
+        {
+            stateMachine.tick();
+        }
+
+        assertEquals(expectedChecks(transitions), checks);
+    }
+
+    @Test
+    public void timingWheelChecksDueTransitionsInOrder()
+    {
+        assertDispatch(1, 5, 20, 1, 10, 100, 500, 20, 1);
+    }
+
+    @Test
+    public void largeRateCombinationsChecksDueTransitionsInOrder()
+    {
+        assertDispatch(1, 300, 120, 500, 7, 1);
+    }
+
+    @Test
+    public void eventsRunBeforeStateTransitionsAndChangeState()
+    {
+        final TickRateStateMachine<IAIState> stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, e -> {});
+        final List<String> checks = new ArrayList<>();
+        stateMachine.addTransition(new TickingTransition<>(AIWorkerState.INIT, () -> {
+            checks.add("state");
+            return true;
+        }, () -> AIWorkerState.IDLE, 1));
+        stateMachine.tick();
+        assertEquals(AIWorkerState.IDLE, stateMachine.getState());
+
+        stateMachine.addTransition(new TickingTransition<>(AIWorkerState.IDLE, () -> true, () -> AIWorkerState.INIT, 1));
+        stateMachine.addTransition(new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> {
+            checks.add("event");
+            return true;
+        }, AIWorkerState.START_WORKING, 1));
+        stateMachine.tick();
+
+        assertEquals(AIWorkerState.START_WORKING, stateMachine.getState());
+        assertEquals(2, checks.size());
+        assertEquals("event", checks.get(1));
+    }
+
+    @Test
+    public void stateWithoutTransitionsResets()
+    {
+        final List<RuntimeException> exceptions = new ArrayList<>();
+        final TickRateStateMachine<IAIState> stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, exceptions::add);
+        stateMachine.addTransition(new TickingTransition<>(AIWorkerState.INIT, () -> true, () -> AIWorkerState.IDLE, 1));
+        stateMachine.tick();
+        stateMachine.tick();
+
+        assertEquals(AIWorkerState.INIT, stateMachine.getState());
+        assertEquals(1, exceptions.size());
+    }
+}
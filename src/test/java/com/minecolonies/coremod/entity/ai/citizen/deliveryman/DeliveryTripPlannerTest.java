@@ -0,0 +1,97 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests around {@link DeliveryTripPlanner}.
+ */
+public class DeliveryTripPlannerTest
+{
+    private static final BlockPos WAREHOUSE = new BlockPos(0, 64, 0);
+
+    private static BlockPos[] delivery(final BlockPos start, final int x, final int z)
+    {
+        return new BlockPos[] {start, new BlockPos(x, 64, z)};
+    }
+
+    private static final Function<BlockPos[], BlockPos> START  = d -> d[0];
+    private static final Function<BlockPos[], BlockPos> TARGET = d -> d[1];
+
+    @Test
+    public void selectsDeliveriesWithClosePickupsAndDestinations()
+    {
+        final BlockPos[] first = delivery(WAREHOUSE, 100, 0);
+        final BlockPos[] near = delivery(WAREHOUSE.east(5), 120, 0);
+        final BlockPos[] chained = delivery(WAREHOUSE, 140, 0);
+        final BlockPos[] farTarget = delivery(WAREHOUSE, -100, 0);
+        final BlockPos[] farPickup = delivery(new BlockPos(200, 64, 200), 100, 0);
+
+        final List<BlockPos[]> trip = DeliveryTripPlanner.selectTrip(Arrays.asList(first, farTarget, near, farPickup, chained), START, TARGET, 10, 24, 32);
+
+        assertEquals(Arrays.asList(first, near, chained), trip);
+    }
+
+    @Test
+    public void selectionIsLimitedByCapacity()
+    {
+        final List<BlockPos[]> queue = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+        {
+            queue.add(delivery(WAREHOUSE, 50, i));
+        }
+
+        assertEquals(queue.subList(0, 3), DeliveryTripPlanner.selectTrip(queue, START, TARGET, 3, 24, 32));
+        assertEquals(Collections.singletonList(queue.get(0)), DeliveryTripPlanner.selectTrip(queue, START, TARGET, 1, 24, 32));
+        assertTrue(DeliveryTripPlanner.selectTrip(new ArrayList<BlockPos[]>(), START, TARGET, 3, 24, 32).isEmpty());
+    }
+
+    @Test
+    public void ordersStopsAlongTheWay()
+    {
+        final BlockPos a = new BlockPos(10, 64, 0);
+        final BlockPos b = new BlockPos(20, 64, 0);
+        final BlockPos c = new BlockPos(30, 64, 0);
+        final BlockPos d = new BlockPos(40, 64, 0);
+
+        assertEquals(Arrays.asList(a, b, c, d), DeliveryTripPlanner.orderStops(WAREHOUSE, Arrays.asList(c, a, d, b), Function.identity()));
+    }
+
+    @Test
+    public void orderedTourIsNotLongerThanQueueOrder()
+    {
+        final List<BlockPos> stops = Arrays.asList(
+          new BlockPos(30, 64, 30),
+          new BlockPos(-20, 64, 10),
+          new BlockPos(25, 64, -40),
+          new BlockPos(-35, 64, -5),
+          new BlockPos(5, 64, 45),
+          new BlockPos(40, 64, 0));
+
+        final List<BlockPos> tour = DeliveryTripPlanner.orderStops(WAREHOUSE, stops, Function.identity());
+
+        assertEquals(stops.size(), tour.size());
+        assertTrue(tour.containsAll(stops));
+        assertTrue(length(tour) <= length(stops));
+    }
+
+    private static double length(final List<BlockPos> tour)
+    {
+        double length = 0;
+        BlockPos current = WAREHOUSE;
+        for (final BlockPos stop : tour)
+        {
+            length += Math.sqrt(current.distanceSq(stop));
+            current = stop;
+        }
+        return length;
+    }
+}
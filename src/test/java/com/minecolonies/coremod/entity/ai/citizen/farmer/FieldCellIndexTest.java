@@ -0,0 +1,70 @@
+package com.minecolonies.coremod.entity.ai.citizen.farmer;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests around the stem spacing of {@link FieldCellIndex}.
+ */
+public class FieldCellIndexTest
+{
+    private static final int SIZE = 9;
+    private static final int GROUND = 64;
+
+    /**
+     * Plant stems on all free cells of the field in raster order, like the farmer does with the cells flagged for planting.
+     *
+     * @param stems the crop positions holding stems, changed in place.
+     */
+    private static void plantCycle(final Set<BlockPos> stems)
+    {
+        for (int z = 0; z < SIZE; z++)
+        {
+            for (int x = 0; x < SIZE; x++)
+            {
+                final BlockPos ground = new BlockPos(x, GROUND, z);
+                if (!stems.contains(ground.up()) && FieldCellIndex.hasRoomForStem(ground, stems::contains))
+                {
+                    stems.add(ground.up());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void stemsKeepFreeNeighboursOverSeveralCycles()
+    {
+        final Set<BlockPos> stems = new HashSet<>();
+        plantCycle(stems);
+        final Set<BlockPos> afterFirstCycle = new HashSet<>(stems);
+        assertFalse(stems.isEmpty());
+
+        plantCycle(stems);
+        plantCycle(stems);
+        assertEquals(afterFirstCycle, stems);
+
+        for (final BlockPos stem : stems)
+        {
+            assertFalse(stems.contains(stem.east()));
+            assertFalse(stems.contains(stem.west()));
+            assertFalse(stems.contains(stem.north()));
+            assertFalse(stems.contains(stem.south()));
+        }
+    }
+
+    @Test
+    public void noStemNextToAFruit()
+    {
+        final BlockPos ground = new BlockPos(0, GROUND, 0);
+        final Set<BlockPos> fruits = new HashSet<>();
+        fruits.add(ground.west().up());
+
+        assertFalse(FieldCellIndex.hasRoomForStem(ground, fruits::contains));
+        assertTrue(FieldCellIndex.hasRoomForStem(ground.east(), fruits::contains));
+    }
+}
@@ -0,0 +1,100 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests around {@link NodeHeap} and {@link LongNodeMap}.
+ */
+public class NodeHeapTest
+{
+    private static Node node(final int x, final double score)
+    {
+        return new Node(null, new BlockPos(x, 0, 0), 0, score, score);
+    }
+
+    @Test
+    public void pollReturnsNodesByScore()
+    {
+        final NodeHeap heap = new NodeHeap(2);
+        final Random random = new Random(42);
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+        {
+            final Node node = node(i, random.nextInt(50));
+            node.setCounterAdded(i);
+            nodes.add(node);
+            heap.offer(node);
+        }
+
+        assertEquals(nodes.size(), heap.size());
+
+        Node last = heap.poll();
+        while (!heap.isEmpty())
+        {
+            final Node current = heap.poll();
+            assertTrue(last.compareTo(current) <= 0);
+            assertFalse(heap.contains(current));
+            last = current;
+        }
+        assertNull(heap.poll());
+    }
+
+    @Test
+    public void decreaseKeyMovesNodeToFront()
+    {
+        final NodeHeap heap = new NodeHeap();
+        final Node a = node(0, 10);
+        final Node b = node(1, 20);
+        final Node c = node(2, 30);
+        heap.offer(a);
+        heap.offer(b);
+        heap.offer(c);
+
+        c.setScore(5);
+        heap.decreaseKey(c);
+
+        assertSame(c, heap.poll());
+        assertSame(a, heap.poll());
+        assertSame(b, heap.poll());
+    }
+
+    @Test
+    public void clearResetsMembership()
+    {
+        final NodeHeap heap = new NodeHeap();
+        final Node a = node(0, 1);
+        heap.offer(a);
+        heap.clear();
+
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(a));
+    }
+
+    @Test
+    public void mapStoresAndGrows()
+    {
+        final LongNodeMap map = new LongNodeMap(4);
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(i * 31L - 500, node(i, i));
+        }
+
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++)
+        {
+            assertEquals(i, map.get(i * 31L - 500).pos.getX());
+        }
+        assertNull(map.get(1));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(-500));
+    }
+}